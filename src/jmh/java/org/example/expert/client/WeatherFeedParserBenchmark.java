@@ -0,0 +1,99 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.example.expert.client.dto.WeatherDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 WeatherDto[] 바인딩 방식과 토큰 스트리밍 방식의 호출당 시간/할당량 비교
+ * 피드는 실제 weather.json 과 같은 형태(365개 항목)로 만듭니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeatherFeedParserBenchmark {
+
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy", "Windy"};
+
+    @Param({"01-01", "07-01", "12-31"})
+    private String date;
+
+    private byte[] feed;
+    private ObjectMapper objectMapper;
+    private WeatherFeedParser weatherFeedParser;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("[");
+        LocalDate day = LocalDate.of(2023, 1, 1);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
+        for (int i = 0; i < 365; i++, day = day.plusDays(1)) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"date\":\"").append(day.format(formatter))
+                    .append("\",\"weather\":\"").append(WEATHERS[i % WEATHERS.length]).append("\"}");
+        }
+        feed = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+
+        objectMapper = new ObjectMapper().registerModule(new ParameterNamesModule());
+        weatherFeedParser = new WeatherFeedParser(objectMapper.getFactory());
+    }
+
+    @Benchmark
+    public Optional<String> arrayBinding() throws IOException {
+        WeatherDto[] weatherArray = objectMapper.readValue(new ByteArrayInputStream(feed), WeatherDto[].class);
+        return Arrays.stream(weatherArray)
+                .filter(weatherDto -> date.equals(weatherDto.getDate()))
+                .map(WeatherDto::getWeather)
+                .findFirst();
+    }
+
+    // 일치하는 날짜를 찾는 즉시 읽기를 멈추는 토큰 스트리밍 (전체를 캐시에 담는 parseAll 과의 비교용)
+    @Benchmark
+    public Optional<String> streamingFindByDate() throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(feed)) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                String entryDate = null;
+                String weather = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String fieldName = parser.currentName();
+                    parser.nextToken();
+                    if ("date".equals(fieldName)) {
+                        entryDate = parser.getValueAsString();
+                    } else if ("weather".equals(fieldName)) {
+                        weather = parser.getValueAsString();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                if (date.equals(entryDate)) {
+                    return Optional.ofNullable(weather);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Benchmark
+    public Map<String, String> streamingParseAll() throws IOException {
+        return weatherFeedParser.parseAll(new ByteArrayInputStream(feed));
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.expert.config;
+
+import jakarta.servlet.FilterChain;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 처리량 비교
+ * cold: 캐시를 끈 상태(max-size 0)로 매 요청 서명 검증, warm: 검증된 토큰 캐시 적중
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    @Param({"cold", "warm"})
+    private String cache;
+
+    private JwtFilter jwtFilter;
+    private String bearerToken;
+    private final FilterChain chain = (request, response) -> {
+    };
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey",
+                Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes()));
+        jwtUtil.init();
+
+        int maxSize = "warm".equals(cache) ? 10_000 : 0;
+        jwtFilter = new JwtFilter(jwtUtil, new VerifiedTokenCache(maxSize));
+        bearerToken = jwtUtil.createToken(1L, "email@email.com", UserRole.USER);
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader("Authorization", bearerToken);
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), chain);
+        return request.getAttribute("userId");
+    }
+}
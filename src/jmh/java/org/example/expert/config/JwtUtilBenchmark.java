@@ -0,0 +1,44 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단일 스레드(코어 1개) 기준 초당 토큰 발급/검증 횟수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey",
+                Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes()));
+        jwtUtil.init();
+        token = jwtUtil.substringToken(jwtUtil.createToken(1L, "email@email.com", UserRole.USER));
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken(1L, "email@email.com", UserRole.USER);
+    }
+
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtUtil.extractClaims(token);
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.metrics.MetricsRegistry;
+import org.example.expert.domain.common.metrics.TimedMetric;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 건당 계측 비용
+ * interceptor: MetricsInterceptor 의 preHandle + afterCompletion (시작 시각 속성 저장, 타이머 조회, 히스토그램 기록)
+ * timerRecord: 히스토그램 기록만, 저장소 어드바이스도 타이머 조회 후 이 기록 한 번을 더합니다.
+ * -t 4 로 여러 스레드가 같은 타이머에 기록할 때의 경합도 확인할 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsInterceptorBenchmark {
+
+    private MetricsInterceptor metricsInterceptor;
+    private TimedMetric timer;
+    private HandlerMethod handler;
+
+    @State(Scope.Thread)
+    public static class Exchange {
+
+        private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/1");
+        private final MockHttpServletResponse response = new MockHttpServletResponse();
+    }
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        MetricsRegistry metricsRegistry = new MetricsRegistry();
+        metricsInterceptor = new MetricsInterceptor(metricsRegistry);
+        timer = metricsRegistry.timer("benchmark");
+        handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("get"));
+    }
+
+    @Benchmark
+    public void interceptor(Exchange exchange) {
+        metricsInterceptor.preHandle(exchange.request, exchange.response, handler);
+        metricsInterceptor.afterCompletion(exchange.request, exchange.response, handler, null);
+    }
+
+    @Benchmark
+    public void timerRecord() {
+        timer.record(1_234_567L);
+    }
+
+    public static class SampleController {
+
+        public String get() {
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.config;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 현재 장비에서 BCrypt cost 별 해시 1회 소요 시간
+ * password.bcrypt.target-millis 를 정할 때 참고합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    @Param({"4", "6", "8", "10", "12"})
+    private int cost;
+
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder();
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode("Benchmark1234", cost);
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.expert.domain.audit;
+
+import org.example.expert.domain.audit.service.AdminAuditRecord;
+import org.example.expert.domain.audit.service.AuditRingBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 스레드 3개가 감사 기록을 넣고 저장 스레드 1개가 꺼내는 상황의 처리량
+ * ring: AuditRingBuffer (CAS), locked: 같은 크기의 ArrayBlockingQueue (ReentrantLock 하나를 생산자와 소비자가 공유)
+ * 가득 차면 두 쪽 모두 기다리지 않고 기록을 버립니다.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuditBufferBenchmark {
+
+    private static final int CAPACITY = 8192;
+
+    private final AdminAuditRecord record = new AdminAuditRecord(1L, "CommentAdminService.deleteComment(..)", "/admin/comments/1", 0L, true);
+
+    private AuditRingBuffer ringBuffer;
+    private ArrayBlockingQueue<AdminAuditRecord> lockedQueue;
+
+    @Setup
+    public void setUp() {
+        ringBuffer = new AuditRingBuffer(CAPACITY);
+        lockedQueue = new ArrayBlockingQueue<>(CAPACITY);
+    }
+
+    @Benchmark
+    @Group("ring")
+    @GroupThreads(3)
+    public boolean ringOffer() {
+        return ringBuffer.offer(record);
+    }
+
+    @Benchmark
+    @Group("ring")
+    @GroupThreads(1)
+    public AdminAuditRecord ringPoll() {
+        return ringBuffer.poll();
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(3)
+    public boolean lockedOffer() {
+        return lockedQueue.offer(record);
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public AdminAuditRecord lockedPoll() {
+        return lockedQueue.poll();
+    }
+}
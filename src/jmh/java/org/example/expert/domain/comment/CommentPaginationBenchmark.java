@@ -0,0 +1,103 @@
+package org.example.expert.domain.comment;
+
+import org.example.expert.domain.comment.dto.response.CommentCursorResponse;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.support.JpaBenchmarkSupport;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글이 몰린 일정 하나의 댓글 조회 비용 비교 (-prof gc 의 gc.alloc.rate.norm 도 함께 봅니다)
+ * unbounded: 기존 방식, 댓글 엔티티 전체를 user fetch join 으로 읽어 CommentResponse 로 변환
+ * capped: GET /todos/{id}/comments, 작성 순 최대 1000 건
+ * cursorPage: GET /todos/{id}/comments/cursor, 댓글 중간 지점 커서에서 20 건
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class CommentPaginationBenchmark {
+
+    private static final long TODO_ID = 1L;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000", "100000"})
+    private int comments;
+
+    private JpaBenchmarkSupport support;
+    private CommentService commentService;
+    private Long middleCursor;
+
+    @Setup
+    public void setUp() {
+        support = new JpaBenchmarkSupport("comment-pagination");
+        CommentRepository commentRepository = support.repository(CommentRepository.class);
+        commentService = new CommentService(null, commentRepository, null, PAGE_SIZE, 100, 1000);
+        seed(support.jdbcTemplate(), comments);
+        middleCursor = (long) comments / 2;
+    }
+
+    @TearDown
+    public void tearDown() {
+        support.close();
+    }
+
+    @Benchmark
+    public List<CommentResponse> unbounded() {
+        return support.inReadOnlyTransaction(() -> support.entityManager()
+                .createQuery("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId", Comment.class)
+                .setParameter("todoId", TODO_ID)
+                .getResultList()
+                .stream()
+                .map(comment -> new CommentResponse(
+                        comment.getId(),
+                        comment.getContents(),
+                        new UserResponse(comment.getUser().getId(), comment.getUser().getEmail())
+                ))
+                .toList());
+    }
+
+    @Benchmark
+    public CommentCursorResponse capped() {
+        return support.inReadOnlyTransaction(() -> commentService.getComments(TODO_ID));
+    }
+
+    @Benchmark
+    public CommentCursorResponse cursorPage() {
+        return support.inReadOnlyTransaction(() -> commentService.getCommentsByCursor(TODO_ID, middleCursor, PAGE_SIZE));
+    }
+
+    static void seed(JdbcTemplate jdbcTemplate, int comments) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0));
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (1, 'seed@email.com', 'pw', 'USER')");
+        // 다른 일정의 댓글 사이에서 인덱스로 찾아가도록 일정 두 개에 번갈아 넣습니다.
+        jdbcTemplate.batchUpdate("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                List.of(new Object[]{TODO_ID, "hot", "contents", "Sunny", 1L, now, now},
+                        new Object[]{TODO_ID + 1, "other", "contents", "Sunny", 1L, now, now}));
+
+        int batchSize = 10_000;
+        int rows = comments * 2;
+        for (int from = 1; from <= rows; from += batchSize) {
+            List<Object[]> batch = new ArrayList<>(batchSize);
+            for (long id = from; id < from + batchSize && id <= rows; id++) {
+                long todoId = id % 2 == 1 ? TODO_ID : TODO_ID + 1;
+                batch.add(new Object[]{id, "comment" + id, 1L, todoId, now, now});
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+                    batch);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.expert.domain.manager;
+
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.support.JpaBenchmarkSupport;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 작성 전 "요청한 유저가 일정의 담당자인가" 확인 비용 비교
+ * loadManagers: todo.getManagers() 컬렉션을 전부 로딩해 메모리에서 찾기 (기존 방식)
+ * existsQuery: (todo_id, user_id) 유니크 인덱스로 EXISTS 한 번
+ * 찾는 유저는 마지막으로 등록된 담당자라서 컬렉션을 끝까지 훑어야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ManagerCheckBenchmark {
+
+    private static final long TODO_ID = 1L;
+
+    @Param({"1", "100", "10000"})
+    private int managers;
+
+    private JpaBenchmarkSupport support;
+    private ManagerRepository managerRepository;
+    private Long userId;
+
+    @Setup
+    public void setUp() {
+        support = new JpaBenchmarkSupport("manager-check");
+        managerRepository = support.repository(ManagerRepository.class);
+        seed(support.jdbcTemplate(), managers);
+        userId = (long) managers + 1;
+    }
+
+    @TearDown
+    public void tearDown() {
+        support.close();
+    }
+
+    @Benchmark
+    public boolean loadManagers() {
+        return support.inReadOnlyTransaction(() -> support.entityManager()
+                .find(Todo.class, TODO_ID)
+                .getManagers()
+                .stream()
+                .anyMatch(manager -> manager.getUser().getId().equals(userId)));
+    }
+
+    @Benchmark
+    public boolean existsQuery() {
+        return support.inReadOnlyTransaction(() -> managerRepository.existsByTodoIdAndUserId(TODO_ID, userId));
+    }
+
+    static void seed(JdbcTemplate jdbcTemplate, int managers) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0));
+
+        List<Object[]> userRows = new ArrayList<>();
+        for (long id = 1; id <= managers + 1; id++) {
+            userRows.add(new Object[]{id, "user" + id + "@email.com", "pw", "USER"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, password, user_role) VALUES (?, ?, ?, ?)", userRows);
+        jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                TODO_ID, "title", "contents", "Sunny", 1L, now, now);
+
+        List<Object[]> managerRows = new ArrayList<>();
+        for (long id = 1; id <= managers; id++) {
+            managerRows.add(new Object[]{id, id + 1, TODO_ID});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO managers (id, user_id, todo_id) VALUES (?, ?, ?)", managerRows);
+    }
+}
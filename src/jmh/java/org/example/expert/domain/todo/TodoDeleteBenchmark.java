@@ -0,0 +1,121 @@
+package org.example.expert.domain.todo;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.service.CommentChunkDeleter;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.manager.service.ManagerChunkDeleter;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.support.JpaBenchmarkSupport;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글이 comments 개 달린 일정 하나를 지우는 시간 (반복마다 새로 만든 일정을 한 번 지웁니다)
+ * cascadeRemove: 기존 방식, em.remove(todo) 로 댓글 엔티티를 모두 읽고 한 건씩(배치 50) DELETE, 트랜잭션 1개
+ * chunkedDelete: TodoDeleteService 와 같은 순서, 1000 건씩 DELETE ... WHERE id IN (...) 후 커밋
+ * singleChunk: chunkedDelete 의 청크 트랜잭션 하나, 즉 행 잠금을 쥐고 있는 가장 긴 구간
+ * 인메모리 H2 는 행 삭제 자체가 비싸서 전체 시간 차이는 작습니다. 잠금 시간은 cascadeRemove 와 singleChunk 를 비교합니다.
+ * 배치 설정은 PersistenceConfig 와 같습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class TodoDeleteBenchmark {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    @Param({"100000"})
+    private int comments;
+
+    private JpaBenchmarkSupport support;
+    private TodoRepository todoRepository;
+    private CommentChunkDeleter commentChunkDeleter;
+    private ManagerChunkDeleter managerChunkDeleter;
+    private long todoId;
+
+    @Setup
+    public void setUp() {
+        support = new JpaBenchmarkSupport("delete", Map.of(
+                AvailableSettings.STATEMENT_BATCH_SIZE, 50,
+                AvailableSettings.ORDER_INSERTS, true,
+                AvailableSettings.ORDER_UPDATES, true
+        ));
+        todoRepository = support.repository(TodoRepository.class);
+        commentChunkDeleter = new CommentChunkDeleter(support.repository(CommentRepository.class), todoRepository, CHUNK_SIZE);
+        managerChunkDeleter = new ManagerChunkDeleter(support.repository(ManagerRepository.class), todoRepository, CHUNK_SIZE);
+        support.jdbcTemplate().update("INSERT INTO users (id, email, password, user_role) VALUES (1, 'seed@email.com', 'pw', 'USER')");
+    }
+
+    @Setup(Level.Iteration)
+    public void seedTodo() {
+        todoId++;
+        seed(support.jdbcTemplate(), todoId, comments);
+    }
+
+    @TearDown
+    public void tearDown() {
+        support.close();
+    }
+
+    @Benchmark
+    public void cascadeRemove() {
+        support.inTransaction(() -> {
+            EntityManager entityManager = support.entityManager();
+            entityManager.remove(entityManager.find(Todo.class, todoId));
+            return null;
+        });
+    }
+
+    @Benchmark
+    public void chunkedDelete() {
+        int deleted;
+        do {
+            deleted = support.inTransaction(() -> commentChunkDeleter.deleteChunk(todoId));
+        } while (deleted > 0);
+        do {
+            deleted = support.inTransaction(() -> managerChunkDeleter.deleteChunk(todoId));
+        } while (deleted > 0);
+        support.inTransaction(() -> {
+            todoRepository.deleteById(todoId);
+            return null;
+        });
+    }
+
+    @Benchmark
+    public int singleChunk() {
+        return support.inTransaction(() -> commentChunkDeleter.deleteChunk(todoId));
+    }
+
+    static void seed(JdbcTemplate jdbcTemplate, long todoId, int comments) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0));
+        jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                todoId, "title", "contents", "Sunny", 1L, now, now);
+        jdbcTemplate.update("INSERT INTO managers (id, user_id, todo_id) VALUES (?, ?, ?)", todoId, 1L, todoId);
+
+        long firstId = todoId * comments;
+        int batchSize = 10_000;
+        for (int from = 0; from < comments; from += batchSize) {
+            List<Object[]> batch = new ArrayList<>(batchSize);
+            for (int i = from; i < from + batchSize && i < comments; i++) {
+                batch.add(new Object[]{firstId + i, "comment" + i, 1L, todoId, now, now});
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+                    batch);
+        }
+        jdbcTemplate.update("UPDATE todos SET comment_count = ?, manager_count = 1 WHERE id = ?", comments, todoId);
+    }
+}
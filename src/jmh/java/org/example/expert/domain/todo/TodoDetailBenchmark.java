@@ -0,0 +1,126 @@
+package org.example.expert.domain.todo;
+
+import io.jsonwebtoken.Claims;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCountCache;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.support.JpaBenchmarkSupport;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 화면 한 번을 그리는 비용 비교 (-prof gc 와 함께 SampleTime 의 p0.99 를 봅니다)
+ * threeCalls: GET /todos/{id}, /managers, /comments 를 각각 JWT 검증 + 트랜잭션으로 호출
+ * detail: GET /todos/{id}/detail 을 JWT 검증 1번 + 트랜잭션 1번으로 호출
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class TodoDetailBenchmark {
+
+    private static final long TODO_ID = 1L;
+
+    @Param({"5"})
+    private int managers;
+
+    @Param({"50"})
+    private int comments;
+
+    private JpaBenchmarkSupport support;
+    private JwtUtil jwtUtil;
+    private String token;
+    private TodoService todoService;
+    private ManagerService managerService;
+    private CommentService commentService;
+
+    @Setup
+    public void setUp() {
+        support = new JpaBenchmarkSupport("detail");
+        TodoRepository todoRepository = support.repository(TodoRepository.class);
+        ManagerRepository managerRepository = support.repository(ManagerRepository.class);
+        CommentRepository commentRepository = support.repository(CommentRepository.class);
+        UserRepository userRepository = support.repository(UserRepository.class);
+
+        todoService = new TodoService(todoRepository, null, new TodoCountCache(todoRepository), managerRepository, commentRepository, 20);
+        managerService = new ManagerService(managerRepository, userRepository, todoRepository);
+        commentService = new CommentService(todoRepository, commentRepository, managerRepository, 20, 100, 1000);
+        seed(support.jdbcTemplate(), managers, comments);
+
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey",
+                Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes()));
+        jwtUtil.init();
+        token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user1@email.com", UserRole.USER));
+    }
+
+    @TearDown
+    public void tearDown() {
+        support.close();
+    }
+
+    @Benchmark
+    public Object threeCalls() {
+        List<Object> responses = new ArrayList<>(3);
+        verifyToken();
+        responses.add(support.inReadOnlyTransaction(() -> todoService.getTodo(TODO_ID)));
+        verifyToken();
+        responses.add(support.inReadOnlyTransaction(() -> managerService.getManagers(TODO_ID)));
+        verifyToken();
+        responses.add(support.inReadOnlyTransaction(() -> commentService.getComments(TODO_ID)));
+        return responses;
+    }
+
+    @Benchmark
+    public TodoDetailResponse detail() {
+        verifyToken();
+        return support.inReadOnlyTransaction(() -> todoService.getTodoDetail(TODO_ID));
+    }
+
+    private Claims verifyToken() {
+        return jwtUtil.extractClaims(token);
+    }
+
+    static void seed(JdbcTemplate jdbcTemplate, int managers, int comments) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0));
+        int users = managers + 1;
+
+        List<Object[]> userRows = new ArrayList<>();
+        for (long id = 1; id <= users; id++) {
+            userRows.add(new Object[]{id, "user" + id + "@email.com", "pw", "USER"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, password, user_role) VALUES (?, ?, ?, ?)", userRows);
+        jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                TODO_ID, "title", "contents", "Sunny", 1L, now, now);
+
+        List<Object[]> managerRows = new ArrayList<>();
+        for (long id = 1; id <= managers; id++) {
+            managerRows.add(new Object[]{id, id + 1, TODO_ID});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO managers (id, user_id, todo_id) VALUES (?, ?, ?)", managerRows);
+
+        List<Object[]> commentRows = new ArrayList<>();
+        for (long id = 1; id <= comments; id++) {
+            commentRows.add(new Object[]{id, "comment" + id, id % users + 1, TODO_ID, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)", commentRows);
+    }
+}
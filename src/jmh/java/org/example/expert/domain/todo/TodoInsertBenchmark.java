@@ -0,0 +1,81 @@
+package org.example.expert.domain.todo;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.JpaBenchmarkSupport;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 저장(작성자 Manager cascade 포함) 처리량 : 한 트랜잭션에서 TODOS_PER_OP 개를 persist 합니다.
+ * batchSize 1 은 배치 없이 행마다 INSERT, 50 은 PersistenceConfig 와 같은 설정(order_inserts 포함)입니다.
+ * 인메모리 H2 는 네트워크 왕복이 없으므로 Counters 의 todos(초당 저장 일정 수)와
+ * statements(초당 JDBC 문장 수, 배치 1 회 = 1 문장)를 함께 봅니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class TodoInsertBenchmark {
+
+    private static final int TODOS_PER_OP = 100;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private JpaBenchmarkSupport support;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        support = new JpaBenchmarkSupport("insert" + batchSize, Map.of(
+                AvailableSettings.STATEMENT_BATCH_SIZE, batchSize,
+                AvailableSettings.ORDER_INSERTS, true,
+                AvailableSettings.GENERATE_STATISTICS, true
+        ));
+        user = support.inTransaction(() -> {
+            User saved = new User("insert@email.com", "pw", UserRole.USER);
+            support.entityManager().persist(saved);
+            return saved;
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        support.close();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long todos;
+        public long statements;
+    }
+
+    @Benchmark
+    public int insertTodos(Counters counters) {
+        Statistics statistics = support.statistics();
+        long preparedBefore = statistics.getPrepareStatementCount();
+        int inserted = support.inTransaction(() -> {
+            EntityManager entityManager = support.entityManager();
+            User creator = entityManager.getReference(User.class, user.getId());
+            for (int i = 0; i < TODOS_PER_OP; i++) {
+                entityManager.persist(new Todo("title" + i, "contents", "Sunny", creator));
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return TODOS_PER_OP;
+        });
+        counters.todos += inserted;
+        counters.statements += statistics.getPrepareStatementCount() - preparedBefore;
+        return inserted;
+    }
+}
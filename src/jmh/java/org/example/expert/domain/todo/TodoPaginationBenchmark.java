@@ -0,0 +1,91 @@
+package org.example.expert.domain.todo;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.support.JpaBenchmarkSupport;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오프셋 페이지(Slice)와 (modified_at, id) 커서 페이지의 깊이별 응답 시간 비교
+ * rows 개의 일정을 JDBC 배치로 미리 넣어 두고, depth 번째 행부터 10 건을 읽습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class TodoPaginationBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"0", "10000", "500000", "990000"})
+    private int depth;
+
+    private JpaBenchmarkSupport support;
+    private TodoRepository todoRepository;
+    private LocalDateTime cursorModifiedAt;
+    private Long cursorId;
+
+    @Setup
+    public void setUp() {
+        support = new JpaBenchmarkSupport("pagination");
+        todoRepository = support.repository(TodoRepository.class);
+        seed(support.jdbcTemplate(), rows);
+
+        // depth 번째 행 바로 앞 행을 커서로 사용합니다.
+        Map<String, Object> cursorRow = support.jdbcTemplate().queryForMap(
+                "SELECT modified_at, id FROM todos ORDER BY modified_at DESC, id DESC LIMIT 1 OFFSET ?",
+                Math.max(depth - 1, 0));
+        cursorModifiedAt = ((Timestamp) cursorRow.get("modified_at")).toLocalDateTime();
+        cursorId = ((Number) cursorRow.get("id")).longValue();
+    }
+
+    @TearDown
+    public void tearDown() {
+        support.close();
+    }
+
+    @Benchmark
+    public Slice<TodoResponse> offsetPage() {
+        return support.inReadOnlyTransaction(() ->
+                todoRepository.findTodoResponses(PageRequest.of(depth / PAGE_SIZE, PAGE_SIZE)));
+    }
+
+    @Benchmark
+    public List<TodoResponse> keysetPage() {
+        return support.inReadOnlyTransaction(() -> depth == 0
+                ? todoRepository.findFirstTodoResponses(PageRequest.of(0, PAGE_SIZE + 1))
+                : todoRepository.findNextTodoResponses(cursorModifiedAt, cursorId, PageRequest.of(0, PAGE_SIZE + 1)));
+    }
+
+    static void seed(JdbcTemplate jdbcTemplate, int rows) {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (1, 'seed@email.com', 'pw', 'USER')");
+
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        int batchSize = 10_000;
+        for (int from = 1; from <= rows; from += batchSize) {
+            List<Object[]> batch = new ArrayList<>(batchSize);
+            for (int id = from; id < from + batchSize && id <= rows; id++) {
+                Timestamp modifiedAt = Timestamp.valueOf(base.plusSeconds(id / 3));
+                batch.add(new Object[]{id, "title" + id, "contents", "Sunny", 1L, modifiedAt, modifiedAt});
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    batch);
+        }
+    }
+}
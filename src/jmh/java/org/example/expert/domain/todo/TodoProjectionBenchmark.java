@@ -0,0 +1,71 @@
+package org.example.expert.domain.todo;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.support.JpaBenchmarkSupport;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 목록을 엔티티(+ user fetch join)로 읽어 TodoResponse 로 옮기는 방식과
+ * 생성자 표현식으로 TodoResponse 를 바로 받는 방식의 응답 시간과 할당량(-prof gc 의 gc.alloc.rate.norm) 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class TodoProjectionBenchmark {
+
+    private static final int ROWS = 5_000;
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private JpaBenchmarkSupport support;
+    private TodoRepository todoRepository;
+
+    @Setup
+    public void setUp() {
+        support = new JpaBenchmarkSupport("projection");
+        todoRepository = support.repository(TodoRepository.class);
+        TodoPaginationBenchmark.seed(support.jdbcTemplate(), ROWS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        support.close();
+    }
+
+    @Benchmark
+    public List<TodoResponse> entityListing() {
+        return support.inReadOnlyTransaction(() -> support.entityManager()
+                .createQuery("SELECT t FROM Todo t LEFT JOIN FETCH t.user ORDER BY t.modifiedAt DESC, t.id DESC", Todo.class)
+                .setMaxResults(size)
+                .getResultList()
+                .stream()
+                .map(todo -> new TodoResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        todo.getWeather(),
+                        new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                        todo.getCommentCount(),
+                        todo.getManagerCount(),
+                        todo.getCreatedAt(),
+                        todo.getModifiedAt()
+                ))
+                .toList());
+    }
+
+    @Benchmark
+    public List<TodoResponse> projectionListing() {
+        return support.inReadOnlyTransaction(() -> todoRepository.findFirstTodoResponses(PageRequest.of(0, size)));
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.expert.domain.user.service;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.example.expert.config.PasswordEncoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 규칙 검사(정규식 vs 단일 순회)와 비밀번호 변경 흐름(BCrypt 검증 2회 vs 1회) 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PasswordChangeBenchmark {
+
+    private static final String OLD_PASSWORD = "Before12345";
+    private static final String NEW_PASSWORD = "abcdefghijklmnopQ1";
+
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder();
+    private String storedPassword;
+
+    @Setup
+    public void setUp() {
+        storedPassword = passwordEncoder.encode(OLD_PASSWORD, BCrypt.MIN_COST);
+    }
+
+    @Benchmark
+    public boolean validatorRegex() {
+        return NEW_PASSWORD.length() >= PasswordPolicy.MIN_LENGTH
+                && NEW_PASSWORD.matches(".*\\d.*")
+                && NEW_PASSWORD.matches(".*[A-Z].*");
+    }
+
+    @Benchmark
+    public boolean validatorSinglePass() {
+        return PasswordPolicy.isValid(NEW_PASSWORD);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String changeFlowBefore() {
+        if (!validatorRegex() || passwordEncoder.matches(NEW_PASSWORD, storedPassword)) {
+            throw new IllegalStateException();
+        }
+        if (!passwordEncoder.matches(OLD_PASSWORD, storedPassword)) {
+            throw new IllegalStateException();
+        }
+        return passwordEncoder.encode(NEW_PASSWORD, BCrypt.MIN_COST);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String changeFlowAfter() {
+        if (!PasswordPolicy.isValid(NEW_PASSWORD) || NEW_PASSWORD.equals(OLD_PASSWORD)) {
+            throw new IllegalStateException();
+        }
+        if (!passwordEncoder.matches(OLD_PASSWORD, storedPassword)) {
+            throw new IllegalStateException();
+        }
+        return passwordEncoder.encode(NEW_PASSWORD, BCrypt.MIN_COST);
+    }
+}
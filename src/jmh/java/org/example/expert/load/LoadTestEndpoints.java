@@ -0,0 +1,19 @@
+package org.example.expert.load;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 부하 테스트 전용 엔드포인트 (LoadTestServer 에서만 등록됩니다)
+ * 날씨 API 처럼 응답을 기다리는 원격 호출을 sleep 으로 흉내 냅니다. 실제 WeatherClient 는 하루치를 캐시하므로 매 요청 원격 호출을 하지 않습니다.
+ */
+@RestController
+public class LoadTestEndpoints {
+
+    @GetMapping("/load/remote-call")
+    public String remoteCall(@RequestParam(defaultValue = "100") long millis) throws InterruptedException {
+        Thread.sleep(millis);
+        return "Sunny";
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.expert.load;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * ThreadModelLoadTest 가 별도 JVM 으로 띄우는 서버
+ * 파일 디스크립터 한도가 프로세스마다 걸리므로 클라이언트와 서버를 나눠 각자 1 만 개 연결을 열 수 있게 합니다.
+ * 기동이 끝나면 포트, 토큰, 조회할 일정 id 를 한 줄로 출력합니다.
+ */
+public class LoadTestServer {
+
+    static final String READY_PREFIX = "LOAD_SERVER_READY ";
+
+    public static void main(String[] args) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ExpertApplication.class, LoadTestEndpoints.class)
+                .properties(
+                        "server.port=0",
+                        "jwt.secret.key=bG9hZC10ZXN0LXNlY3JldC1rZXktbG9hZC10ZXN0LXNlY3JldC1rZXk=",
+                        "password.bcrypt.target-millis=0",
+                        "server.tomcat.max-connections=20000",
+                        "server.tomcat.accept-count=1000",
+                        "logging.level.root=warn"
+                )
+                .run(args);
+
+        User user = context.getBean(UserRepository.class).save(new User("load@email.com", "password", UserRole.USER));
+        Todo todo = context.getBean(TodoRepository.class).save(new Todo("title", "contents", "Sunny", user));
+        JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+        String token = jwtUtil.substringToken(jwtUtil.createToken(user.getId(), user.getEmail(), UserRole.USER));
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        System.out.println(READY_PREFIX + port + " " + todo.getId() + " " + token);
+    }
+}
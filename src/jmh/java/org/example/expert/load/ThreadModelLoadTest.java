@@ -0,0 +1,159 @@
+package org.example.expert.load;
+
+import org.example.expert.domain.common.metrics.LatencyHistogram;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 플랫폼 스레드(Tomcat 기본 200 개)와 virtual 프로필의 처리량, p99 비교
+ * 모드마다 LoadTestServer 를 별도 JVM 으로 띄우고, clients 개의 닫힌 루프 클라이언트가 응답을 받는 즉시 다음 요청을 보냅니다.
+ * 시나리오는 원격 호출 대기(/load/remote-call, 100ms sleep)와 DB 조회(/todos/{id}/detail) 두 가지입니다.
+ *
+ * ./gradlew loadTest -PjavaVersion=21 -PloadArgs="--clients=1000,5000,10000 --seconds=15"
+ */
+public class ThreadModelLoadTest {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    public static void main(String[] args) throws Exception {
+        List<Integer> clientCounts = List.of(1000, 5000, 10000);
+        int seconds = 15;
+        for (String arg : args) {
+            if (arg.startsWith("--clients=")) {
+                clientCounts = parseList(arg.substring("--clients=".length()));
+            } else if (arg.startsWith("--seconds=")) {
+                seconds = Integer.parseInt(arg.substring("--seconds=".length()));
+            }
+        }
+
+        System.out.printf("%-9s %-12s %7s %10s %9s %9s %8s%n", "mode", "scenario", "clients", "req/s", "p50(ms)", "p99(ms)", "errors");
+        for (String mode : List.of("platform", "virtual")) {
+            Process server = startServer(mode);
+            try {
+                String[] ready = awaitReady(server);
+                String baseUrl = "http://localhost:" + ready[0];
+                String todoId = ready[1];
+                String token = ready[2];
+
+                for (int clients : clientCounts) {
+                    print(mode, "remote-call", clients, run(baseUrl + "/load/remote-call?millis=100", token, clients, seconds));
+                    print(mode, "todo-detail", clients, run(baseUrl + "/todos/" + todoId + "/detail", token, clients, seconds));
+                }
+            } finally {
+                server.destroy();
+                server.waitFor(30, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    private static Result run(String url, String token, int clients, int seconds) throws InterruptedException {
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + token)
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+
+        LatencyHistogram latency = new LatencyHistogram();
+        AtomicLong errors = new AtomicLong();
+        // 연결이 한꺼번에 몰리지 않도록 처음 2 초 동안 클라이언트를 나눠 시작하고, 측정은 그 뒤 3 초부터 합니다.
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        long measureUntil = measureFrom + TimeUnit.SECONDS.toNanos(seconds);
+
+        List<CompletableFuture<Void>> loops = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            long startAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(2000L * i / clients);
+            loops.add(CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(
+                            Math.max(0, startAt - System.nanoTime()), TimeUnit.NANOSECONDS))
+                    .thenCompose(ignored -> loop(httpClient, request, latency, errors, measureFrom, measureUntil)));
+        }
+        CompletableFuture.allOf(loops.toArray(CompletableFuture[]::new)).join();
+
+        return new Result(latency, errors.get(), seconds);
+    }
+
+    // 한 클라이언트의 요청-응답 반복 : 측정 구간 안에서 끝난 요청만 기록합니다.
+    private static CompletableFuture<Void> loop(HttpClient httpClient, HttpRequest request, LatencyHistogram latency,
+                                                AtomicLong errors, long measureFrom, long measureUntil) {
+        long startedAt = System.nanoTime();
+        if (startedAt >= measureUntil) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, failure) -> {
+                    long finishedAt = System.nanoTime();
+                    if (startedAt >= measureFrom && finishedAt < measureUntil) {
+                        if (failure != null || response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        } else {
+                            latency.record(finishedAt - startedAt);
+                        }
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> loop(httpClient, request, latency, errors, measureFrom, measureUntil));
+    }
+
+    private static Process startServer(String mode) throws IOException {
+        String javaBin = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> command = new ArrayList<>(List.of(javaBin, "-cp", System.getProperty("java.class.path"),
+                LoadTestServer.class.getName()));
+        if ("virtual".equals(mode)) {
+            command.add("--spring.profiles.active=virtual");
+        }
+        return new ProcessBuilder(command).redirectErrorStream(true).start();
+    }
+
+    private static String[] awaitReady(Process server) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(server.getInputStream()));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.startsWith(LoadTestServer.READY_PREFIX)) {
+                // 이후 출력은 버리되 파이프가 가득 차서 서버가 멈추지 않도록 계속 읽습니다.
+                Thread drainer = new Thread(() -> reader.lines().forEach(ignored -> { }));
+                drainer.setDaemon(true);
+                drainer.start();
+                return line.substring(LoadTestServer.READY_PREFIX.length()).split(" ");
+            }
+            System.err.println("[server] " + line);
+        }
+        throw new IllegalStateException("부하 테스트 서버가 기동하지 못했습니다.");
+    }
+
+    private static void print(String mode, String scenario, int clients, Result result) {
+        System.out.printf("%-9s %-12s %7d %10.0f %9.1f %9.1f %8d%n", mode, scenario, clients,
+                result.throughput(), result.percentileMillis(50), result.percentileMillis(99), result.errors());
+    }
+
+    private static List<Integer> parseList(String value) {
+        List<Integer> values = new ArrayList<>();
+        for (String part : value.split(",")) {
+            values.add(Integer.parseInt(part.trim()));
+        }
+        return values;
+    }
+
+    private record Result(LatencyHistogram latency, long errors, int seconds) {
+
+        double throughput() {
+            return (double) latency.getCount() / seconds;
+        }
+
+        double percentileMillis(double percentile) {
+            return latency.getPercentileNanos(percentile) / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.expert.support;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 벤치마크용 JPA 환경 : 애플리케이션 엔티티 매핑 그대로 H2 인메모리 DB 에 스키마를 만들고
+ * Spring Data 레포지토리와 트랜잭션 템플릿을 제공합니다. (Spring Boot 와 같은 물리 네이밍 전략 사용)
+ */
+public class JpaBenchmarkSupport implements AutoCloseable {
+
+    private final HikariDataSource dataSource;
+    private final LocalContainerEntityManagerFactoryBean factoryBean;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final JpaRepositoryFactory repositoryFactory;
+
+    public JpaBenchmarkSupport(String databaseName) {
+        this(databaseName, Map.of());
+    }
+
+    public JpaBenchmarkSupport(String databaseName, Map<String, Object> hibernateProperties) {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + databaseName + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(4);
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.hbm2ddl.auto", "create-drop");
+        properties.put("hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName());
+        properties.putAll(hibernateProperties);
+
+        // 엔티티 리스너(EntityCacheListener)가 주입받을 CacheManager 는 캐시하지 않는 구현으로 대신합니다.
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("cacheManager", new NoOpCacheManager());
+        properties.put(AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(beanFactory));
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("org.example.expert.domain");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(properties);
+        factoryBean.afterPropertiesSet();
+
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+        repositoryFactory = new JpaRepositoryFactory(entityManager);
+    }
+
+    public <R> R repository(Class<R> repositoryInterface) {
+        return repositoryFactory.getRepository(repositoryInterface);
+    }
+
+    public EntityManager entityManager() {
+        return entityManager;
+    }
+
+    // hibernate.generate_statistics 를 켠 경우에만 값이 집계됩니다.
+    public Statistics statistics() {
+        return factoryBean.getObject().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public JdbcTemplate jdbcTemplate() {
+        return new JdbcTemplate(dataSource);
+    }
+
+    public <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    public <T> T inReadOnlyTransaction(Supplier<T> action) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> action.get());
+    }
+
+    @Override
+    public void close() {
+        factoryBean.destroy();
+        dataSource.close();
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.expert.client;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 날짜(MM-dd) 기준으로 1년치 날씨를 메모리에 보관하는 캐시
+ */
+public class WeatherCache {
+
+    private volatile Map<String, String> weathers = Map.of();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong refreshCount = new AtomicLong();
+
+    public Optional<String> get(String date) {
+        String weather = weathers.get(date);
+        if (weather == null) {
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+        hitCount.incrementAndGet();
+        return Optional.of(weather);
+    }
+
+    public boolean contains(String date) {
+        return weathers.containsKey(date);
+    }
+
+    // 캐시 전체를 한 번에 교체하므로 조회 중인 스레드는 이전 또는 새 데이터 중 하나만 보게 됩니다.
+    public void refresh(Map<String, String> newWeathers) {
+        weathers = Map.copyOf(newWeathers);
+        refreshCount.incrementAndGet();
+    }
+
+    public int size() {
+        return weathers.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+}
@@ -1,58 +1,243 @@
 package org.example.expert.client;
 
-import org.example.expert.client.dto.WeatherDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.exception.ServerException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.example.expert.domain.common.metrics.LatencyHistogram;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
+@Slf4j
 @Component
 public class WeatherClient {
 
-    private final RestTemplate restTemplate;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+    private final URI weatherApiUri;
+    private final CircuitBreaker circuitBreaker;
+    private final WeatherFeedParser weatherFeedParser = new WeatherFeedParser(new JsonFactory());
+    private final WeatherCache weatherCache = new WeatherCache();
+    private final AtomicReference<CompletableFuture<Map<String, String>>> inFlightFetch = new AtomicReference<>();
+
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+    private final AtomicLong fallbackCount = new AtomicLong();
+    private volatile String lastKnownWeather;
+
+    public WeatherClient(
+            @Value("${weather.api.base-url:https://f-api.github.io}") String baseUrl,
+            @Value("${weather.api.connect-timeout-ms:1000}") long connectTimeoutMillis,
+            @Value("${weather.api.read-timeout-ms:2000}") long readTimeoutMillis,
+            @Value("${weather.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${weather.circuit-breaker.open-duration-ms:30000}") long openDurationMillis
+    ) {
+        // JDK HttpClient 는 호스트별 keep-alive 커넥션 풀을 유지하므로 하나의 인스턴스를 재사용합니다.
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+        this.readTimeout = Duration.ofMillis(readTimeoutMillis);
+        this.weatherApiUri = buildWeatherApiUri(baseUrl);
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, Duration.ofMillis(openDurationMillis));
     }
 
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        return getWeather(getCurrentDate());
+    }
+
+    // 호출 스레드를 막지 않는 조회입니다. 캐시에 없으면 진행 중인 외부 호출 하나를 함께 기다립니다.
+    public CompletableFuture<String> getTodayWeatherAsync() {
+        return getWeatherAsync(getCurrentDate());
+    }
+
+    // 자정 전에 다음 날 데이터를 미리 갱신합니다. 실패해도 기존 캐시는 그대로 유지됩니다.
+    @Scheduled(cron = "0 50 23 * * *")
+    public void refreshWeathers() {
+        try {
+            fetchWeathersShared().join();
+        } catch (CompletionException e) {
+            log.warn("날씨 캐시 갱신에 실패했습니다. 기존 데이터를 유지합니다. : {}", toServerException(e).getMessage());
+        }
+    }
+
+    public long getCacheHitCount() {
+        return weatherCache.getHitCount();
+    }
+
+    public long getCacheMissCount() {
+        return weatherCache.getMissCount();
+    }
+
+    public long getCacheRefreshCount() {
+        return weatherCache.getRefreshCount();
+    }
+
+    public int getCacheSize() {
+        return weatherCache.size();
+    }
+
+    public LatencyHistogram getLatencyHistogram() {
+        return latencyHistogram;
+    }
+
+    public CircuitBreaker.State getCircuitBreakerState() {
+        return circuitBreaker.getState();
+    }
+
+    public long getFallbackCount() {
+        return fallbackCount.get();
+    }
 
-        WeatherDto[] weatherArray = responseEntity.getBody();
+    // 동기 조회도 비동기 조회와 같은 공유 호출을 기다리므로, 두 경로가 동시에 와도 외부 호출은 한 번입니다.
+    String getWeather(String date) {
+        try {
+            return getWeatherAsync(date).join();
+        } catch (CompletionException e) {
+            throw toServerException(e);
+        }
+    }
 
-        validWeatherData(weatherArray, responseEntity);
+    CompletableFuture<String> getWeatherAsync(String date) {
+        Optional<String> cached = weatherCache.get(date);
+        if (cached.isPresent()) {
+            lastKnownWeather = cached.get();
+            return CompletableFuture.completedFuture(cached.get());
+        }
 
-        String today = getCurrentDate();
+        return fetchWeathersShared().handle((weathers, failure) -> {
+            if (failure != null) {
+                return fallback(toServerException(failure));
+            }
+            String weather = weathers.get(date);
+            if (weather == null) {
+                throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+            }
+            lastKnownWeather = weather;
+            return weather;
+        });
+    }
 
-        return Arrays.stream(weatherArray)
-                .filter(weatherDto -> today.equals(weatherDto.getDate()))
-                .map(WeatherDto::getWeather)
-                .findFirst()
-                .orElseThrow( () -> new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다."));
+    // 외부 API 장애 시 마지막으로 성공한 날씨를 대신 반환합니다.
+    private String fallback(ServerException e) {
+        String weather = lastKnownWeather;
+        if (weather == null) {
+            throw e;
+        }
+        fallbackCount.incrementAndGet();
+        log.warn("날씨 API 호출에 실패하여 마지막으로 조회한 날씨를 반환합니다. : {}", e.getMessage());
+        return weather;
     }
 
-    private static void validWeatherData(WeatherDto[] weatherArray, ResponseEntity<WeatherDto[]> responseEntity) {
+    // 이미 진행 중인 호출이 있으면 새로 요청하지 않고 그 결과를 공유합니다. 캐시를 채운 뒤에 자리를 비워 뒤늦은 호출은 캐시에서 읽습니다.
+    private CompletableFuture<Map<String, String>> fetchWeathersShared() {
+        CompletableFuture<Map<String, String>> created = new CompletableFuture<>();
+        CompletableFuture<Map<String, String>> existing = inFlightFetch.compareAndExchange(null, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        CompletableFuture<Map<String, String>> fetch;
+        try {
+            fetch = fetchWeathersAsync();
+        } catch (RuntimeException e) {
+            // 요청을 보내기 전에 예외가 나도 자리를 비우고 실패로 완료해, 뒤따르는 조회가 끝나지 않는 future 를 기다리지 않게 합니다.
+            inFlightFetch.set(null);
+            created.completeExceptionally(e);
+            return created;
+        }
+
+        fetch.whenComplete((weathers, failure) -> {
+            if (failure == null) {
+                weatherCache.refresh(weathers);
+            }
+            inFlightFetch.set(null);
+            if (failure == null) {
+                created.complete(weathers);
+            } else {
+                created.completeExceptionally(failure);
+            }
+        });
+        return created;
+    }
 
-        if (!HttpStatus.OK.equals(responseEntity.getStatusCode()))
-            throw new ServerException("데이터를 가져오는데 실패했습니다. 상태 코드 : " + responseEntity.getStatusCode());
+    private CompletableFuture<Map<String, String>> fetchWeathersAsync() {
+        if (!circuitBreaker.tryAcquire()) {
+            return CompletableFuture.failedFuture(new ServerException("날씨 API 서킷이 열려 있어 호출하지 않았습니다."));
+        }
+
+        long startedAt = System.nanoTime();
+        CompletableFuture<HttpResponse<byte[]>> response;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(weatherApiUri)
+                    .timeout(readTimeout)
+                    .GET()
+                    .build();
+            response = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (RuntimeException e) {
+            // 서킷의 시험 호출 자리를 잡은 채로 남지 않도록 실패로 기록합니다.
+            circuitBreaker.onFailure();
+            throw e;
+        }
+        return response
+                .thenApply(this::readWeathers)
+                .whenComplete((weathers, failure) -> {
+                    latencyHistogram.record(System.nanoTime() - startedAt);
+                    if (failure == null) {
+                        circuitBreaker.onSuccess();
+                    } else {
+                        circuitBreaker.onFailure();
+                    }
+                });
+    }
+
+    // 본문은 이미 메모리에 받아 두었으므로 파싱이 HttpClient 스레드를 네트워크 대기로 막지 않습니다.
+    private Map<String, String> readWeathers(HttpResponse<byte[]> response) {
+        if (response.statusCode() != HttpStatus.OK.value()) {
+            throw new ServerException("데이터를 가져오는데 실패했습니다. 상태 코드 : " + response.statusCode());
+        }
+        try {
+            return requireWeathers(weatherFeedParser.parseAll(new ByteArrayInputStream(response.body())));
+        } catch (IOException e) {
+            throw new ServerException("날씨 데이터를 읽는데 실패했습니다. : " + e.getMessage());
+        }
+    }
+
+    private static ServerException toServerException(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        return cause instanceof ServerException serverException
+                ? serverException
+                : new ServerException("날씨 API 호출에 실패했습니다. : " + cause.getMessage());
+    }
 
-        if (weatherArray == null || weatherArray.length == 0) {
+    private static Map<String, String> requireWeathers(Map<String, String> weathers) {
+        if (weathers == null || weathers.isEmpty()) {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
+        return weathers;
     }
 
-    private URI buildWeatherApiUri() {
+    private static URI buildWeatherApiUri(String baseUrl) {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
@@ -60,7 +245,6 @@ public class WeatherClient {
     }
 
     private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+        return LocalDate.now().format(DATE_FORMATTER);
     }
 }
@@ -0,0 +1,71 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.example.expert.domain.common.exception.ServerException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 날씨 피드([{"date":"MM-dd","weather":"..."}, ...])를 DTO 배열로 바인딩하지 않고 토큰 단위로 읽는 파서
+ */
+public class WeatherFeedParser {
+
+    private static final String DATE_FIELD = "date";
+    private static final String WEATHER_FIELD = "weather";
+
+    private final JsonFactory jsonFactory;
+
+    public WeatherFeedParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    // 캐시 적재용으로 전체 피드를 날짜 -> 날씨 Map 으로 읽습니다. 같은 날짜가 여러 번 나오면 처음 값을 사용합니다.
+    public Map<String, String> parseAll(InputStream inputStream) throws IOException {
+        Map<String, String> weathers = new HashMap<>();
+        try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+            startArray(parser);
+            Entry entry = new Entry();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                entry.read(parser);
+                if (entry.date != null && entry.weather != null) {
+                    weathers.putIfAbsent(entry.date, entry.weather);
+                }
+            }
+        }
+        return weathers;
+    }
+
+    private static void startArray(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new ServerException("날씨 데이터 형식이 올바르지 않습니다.");
+        }
+    }
+
+    // 항목마다 객체를 만들지 않도록 파싱하는 동안 하나의 인스턴스를 재사용합니다.
+    private static class Entry {
+
+        private String date;
+        private String weather;
+
+        private void read(JsonParser parser) throws IOException {
+            date = null;
+            weather = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                if (DATE_FIELD.equals(fieldName)) {
+                    date = parser.getValueAsString();
+                } else if (WEATHER_FIELD.equals(fieldName)) {
+                    weather = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+}
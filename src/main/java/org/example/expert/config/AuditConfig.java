@@ -0,0 +1,22 @@
+package org.example.expert.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.service.AdminAuditRecorder;
+import org.example.expert.domain.common.aop.AdminLogAop;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 감사 기록은 DB 저장소가 필요하므로 MVC 설정(WebConfig)과 분리해 웹 슬라이스 테스트에서는 로드되지 않게 합니다.
+@Configuration
+@RequiredArgsConstructor
+public class AuditConfig {
+
+    private final HttpServletRequest httpServletRequest;
+    private final AdminAuditRecorder adminAuditRecorder;
+
+    @Bean
+    public AdminLogAop getAdminLogAop() {
+        return new AdminLogAop(httpServletRequest, adminAuditRecorder);
+    }
+}
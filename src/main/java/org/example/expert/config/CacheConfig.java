@@ -0,0 +1,38 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.expert.domain.common.cache.CacheNames;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * 유저/일정 단건 조회 캐시 : Caffeine(W-TinyLFU) 로 크기와 TTL 을 제한합니다.
+ * 트랜잭션 안에서의 evict 는 커밋 이후로 미뤄지므로, 커밋 전 값을 다시 읽어 채워 넣더라도 커밋 시점에 지워집니다.
+ * 캐시 적중 시에는 트랜잭션(DB 커넥션)을 열지 않도록 캐시 어드바이스를 트랜잭션보다 먼저 적용합니다.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.entity.max-size:10000}") long maxSize,
+            @Value("${cache.entity.ttl-seconds:600}") long ttlSeconds
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(CacheNames.USERS, CacheNames.TODOS);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
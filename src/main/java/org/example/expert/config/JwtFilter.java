@@ -19,6 +19,7 @@ import java.io.IOException;
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -48,18 +49,24 @@ public class JwtFilter implements Filter {
         String jwt = jwtUtil.substringToken(bearerJwt);
 
         try {
-            // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
-            if (claims == null) {
-                httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
-                return;
+            // 이미 검증한 토큰이면 캐시된 사용자 정보를 사용하고, 아니면 JWT 유효성 검사와 claims 추출
+            long now = System.currentTimeMillis();
+            VerifiedToken verifiedToken = verifiedTokenCache.get(jwt, now);
+            if (verifiedToken == null) {
+                Claims claims = jwtUtil.extractClaims(jwt);
+                if (claims == null) {
+                    httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
+                    return;
+                }
+                verifiedToken = VerifiedToken.from(claims);
+                verifiedTokenCache.put(jwt, verifiedToken, now);
             }
 
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            UserRole userRole = verifiedToken.getUserRole();
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+            httpRequest.setAttribute("userId", verifiedToken.getUserId());
+            httpRequest.setAttribute("email", verifiedToken.getEmail());
+            httpRequest.setAttribute("userRole", userRole.name());
 
             if (url.startsWith("/admin")) {
                 // 관리자 권한이 없는 경우 403을 반환합니다.
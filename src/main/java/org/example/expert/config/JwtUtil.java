@@ -1,6 +1,9 @@
 package org.example.expert.config;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -12,9 +15,13 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import javax.crypto.Mac;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.Key;
 import java.util.Base64;
-import java.util.Date;
 
 @Slf4j(topic = "JwtUtil")
 @Component
@@ -22,30 +29,45 @@ public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
     private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
 
     @Value("${jwt.secret.key}")
     private String secretKey;
     private Key key;
+    private JwtParser jwtParser;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    private String encodedHeader;
+    private Mac macPrototype;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        // JwtParser 는 불변이고 thread-safe 하므로 한 번만 만들어 재사용합니다.
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+
+        // 발급 경로에서 매번 만들던 헤더와 서명용 Mac 을 미리 준비합니다.
+        encodedHeader = BASE64_URL.encodeToString(
+                ("{\"alg\":\"" + signatureAlgorithm.getValue() + "\"}").getBytes(StandardCharsets.UTF_8));
+        try {
+            macPrototype = Mac.getInstance(signatureAlgorithm.getJcaName());
+            macPrototype.init(key);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 서명 키를 초기화할 수 없습니다.", e);
+        }
     }
 
+    // Jwts.builder() 는 호출마다 JSON 직렬화기 탐색과 Mac 생성을 반복하므로, 같은 형식(HS256 JWS)을 직접 만듭니다.
+    // 결과는 jjwt 가 만들던 토큰과 같은 구조이며 extractClaims 로 그대로 검증됩니다.
     public String createToken(Long userId, String email, UserRole userRole) {
-        Date date = new Date();
+        long now = System.currentTimeMillis();
 
-        return BEARER_PREFIX +
-                Jwts.builder()
-                        .setSubject(String.valueOf(userId))
-                        .claim("email", email)
-                        .claim("userRole", userRole)
-                        .setExpiration(new Date(date.getTime() + TOKEN_TIME))
-                        .setIssuedAt(date) // 발급일
-                        .signWith(key, signatureAlgorithm) // 암호화 알고리즘
-                        .compact();
+        String signingInput = encodedHeader + '.' + BASE64_URL.encodeToString(payload(userId, email, userRole, now));
+        byte[] signature = newMac().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return BEARER_PREFIX + signingInput + '.' + BASE64_URL.encodeToString(signature);
     }
 
     public String substringToken(String tokenValue) {
@@ -56,10 +78,40 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
+
+    // exp, iat 는 JWT 규격대로 초 단위입니다.
+    private static byte[] payload(Long userId, String email, UserRole userRole, long now) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(128);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeStringField(Claims.SUBJECT, String.valueOf(userId));
+            generator.writeStringField("email", email);
+            generator.writeStringField("userRole", userRole.name());
+            generator.writeNumberField(Claims.EXPIRATION, (now + TOKEN_TIME) / 1000);
+            generator.writeNumberField(Claims.ISSUED_AT, now / 1000);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new ServerException("토큰을 만들 수 없습니다.");
+        }
+        return outputStream.toByteArray();
+    }
+
+    // 초기화된 Mac 을 복제하면 공급자 조회와 키 설정을 건너뜁니다. 원본은 서명에 쓰지 않으므로 동시에 복제해도 안전합니다.
+    private Mac newMac() {
+        try {
+            return (Mac) macPrototype.clone();
+        } catch (CloneNotSupportedException e) {
+            try {
+                Mac mac = Mac.getInstance(macPrototype.getAlgorithm());
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException ex) {
+                throw new IllegalStateException("JWT 서명 키를 초기화할 수 없습니다.", ex);
+            }
+        }
+    }
 }
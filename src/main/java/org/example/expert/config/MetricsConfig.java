@@ -0,0 +1,39 @@
+package org.example.expert.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.metrics.MetricsRegistry;
+import org.springframework.context.annotation.Configuration;
+
+// 외부 날씨 API 호출과 BCrypt 해싱은 각 컴포넌트가 이미 재고 있는 히스토그램을 그대로 등록합니다.
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig {
+
+    private final MetricsRegistry metricsRegistry;
+    private final WeatherClient weatherClient;
+    private final PasswordHashExecutor passwordHashExecutor;
+
+    @PostConstruct
+    public void registerHotSpots() {
+        metricsRegistry.register("client WeatherClient.fetch", weatherClient.getLatencyHistogram());
+        metricsRegistry.register("password PasswordEncoder.encode", passwordHashExecutor.getEncodeLatency());
+        metricsRegistry.register("password PasswordEncoder.matches", passwordHashExecutor.getMatchLatency());
+
+        // 날씨 캐시가 외부 호출을 얼마나 줄이는지 확인할 수 있도록 적중/누락/갱신 횟수를 게이지로 노출합니다.
+        metricsRegistry.gauge("client WeatherClient.cache.hit", weatherClient::getCacheHitCount);
+        metricsRegistry.gauge("client WeatherClient.cache.miss", weatherClient::getCacheMissCount);
+        metricsRegistry.gauge("client WeatherClient.cache.refresh", weatherClient::getCacheRefreshCount);
+        metricsRegistry.gauge("client WeatherClient.cache.size", weatherClient::getCacheSize);
+
+        // 서킷 상태와 마지막 날씨로 대신 응답한 횟수로 외부 API 장애 여부를 확인합니다.
+        metricsRegistry.gauge("client WeatherClient.circuit.state", weatherClient::getCircuitBreakerState);
+        metricsRegistry.gauge("client WeatherClient.fallback", weatherClient::getFallbackCount);
+
+        // 해싱 전용 풀이 포화 상태인지 알 수 있도록 대기 중인 작업 수, 실행 중인 스레드 수, 거절 횟수를 노출합니다.
+        metricsRegistry.gauge("password PasswordHashExecutor.queue", passwordHashExecutor::getQueueDepth);
+        metricsRegistry.gauge("password PasswordHashExecutor.active", passwordHashExecutor::getActiveCount);
+        metricsRegistry.gauge("password PasswordHashExecutor.rejected", passwordHashExecutor::getRejectedCount);
+    }
+}
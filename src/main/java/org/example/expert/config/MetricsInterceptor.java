@@ -0,0 +1,79 @@
+package org.example.expert.config;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.expert.domain.common.metrics.MetricsRegistry;
+import org.example.expert.domain.common.metrics.TimedMetric;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 컨트롤러 메서드별, 응답 상태 코드별로 처리 시간을 기록합니다. (이름 : "http 컨트롤러.메서드 상태코드")
+ * 비동기 응답(StreamingResponseBody)은 첫 디스패치부터 비동기 디스패치가 끝날 때까지를 한 건으로 잽니다.
+ * JwtFilter 에서 거절된 요청(401, 403)은 DispatcherServlet 에 도달하지 않으므로 기록되지 않습니다.
+ */
+public class MetricsInterceptor implements HandlerInterceptor {
+
+    private static final String STARTED_AT = MetricsInterceptor.class.getName() + ".startedAt";
+    private static final int MAX_STATUS = 600;
+
+    private final MetricsRegistry metricsRegistry;
+    private final ConcurrentHashMap<Method, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    public MetricsInterceptor(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.ASYNC) {
+            request.setAttribute(STARTED_AT, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !(request.getAttribute(STARTED_AT) instanceof Long startedAt)) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        // 처리되지 않은 예외는 상태 코드가 아직 정해지지 않았으므로 500 으로 기록합니다.
+        int status = ex != null && response.getStatus() < 400 ? 500 : response.getStatus();
+        endpointOf(handlerMethod).timer(status).record(elapsedNanos);
+    }
+
+    private EndpointMetrics endpointOf(HandlerMethod handlerMethod) {
+        Method method = handlerMethod.getMethod();
+        EndpointMetrics endpoint = endpoints.get(method);
+        return endpoint != null ? endpoint : endpoints.computeIfAbsent(method, key ->
+                new EndpointMetrics("http " + handlerMethod.getBeanType().getSimpleName() + "." + key.getName()));
+    }
+
+    // 상태 코드를 배열 인덱스로 써서 요청마다 이름을 조합하지 않습니다.
+    private class EndpointMetrics {
+
+        private final String name;
+        private final AtomicReferenceArray<TimedMetric> byStatus = new AtomicReferenceArray<>(MAX_STATUS);
+
+        private EndpointMetrics(String name) {
+            this.name = name;
+        }
+
+        private TimedMetric timer(int status) {
+            int index = status > 0 && status < MAX_STATUS ? status : 0;
+            TimedMetric timer = byStatus.get(index);
+            if (timer == null) {
+                timer = metricsRegistry.timer(name + " " + index);
+                byStatus.set(index, timer);
+            }
+            return timer;
+        }
+    }
+}
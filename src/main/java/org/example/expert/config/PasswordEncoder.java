@@ -1,17 +1,80 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
 public class PasswordEncoder {
 
+    private static final String CALIBRATION_PASSWORD = "calibration-Password1";
+    private static final int MAX_COST = 16;
+
+    // 해시 1회에 걸릴 목표 시간(ms), 0 이면 보정하지 않고 최소 cost 를 사용합니다.
+    @Value("${password.bcrypt.target-millis:100}")
+    private long targetMillis;
+    private volatile int cost = BCrypt.MIN_COST;
+
+    // 목표 시간을 넘지 않는 가장 큰 cost 를 찾습니다. cost 가 1 오를 때마다 해싱 시간은 약 2배가 됩니다.
+    @PostConstruct
+    public void calibrate() {
+        if (targetMillis <= 0) {
+            return;
+        }
+
+        int calibratedCost = BCrypt.MIN_COST;
+        for (int candidate = BCrypt.MIN_COST; candidate <= MAX_COST; candidate++) {
+            long elapsedMillis = measureMillis(candidate);
+            log.info("BCrypt cost {} : {} ms", candidate, elapsedMillis);
+            if (elapsedMillis > targetMillis) {
+                break;
+            }
+            calibratedCost = candidate;
+        }
+        cost = calibratedCost;
+        log.info("BCrypt cost 를 {} 로 설정했습니다. (목표 {} ms)", cost, targetMillis);
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return encode(rawPassword, cost);
+    }
+
+    public String encode(String rawPassword, int cost) {
+        return BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray());
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
         BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
         return result.verified;
     }
+
+    // 저장된 해시($2a$NN$...)의 cost 가 현재 cost 와 다르면 로그인 시 다시 해싱해야 합니다.
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) != cost;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    // JIT 워밍업 영향을 줄이기 위해 두 번 측정해서 짧은 쪽을 사용합니다.
+    private long measureMillis(int candidate) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long startedAt = System.nanoTime();
+            encode(CALIBRATION_PASSWORD, candidate);
+            best = Math.min(best, (System.nanoTime() - startedAt) / 1_000_000);
+        }
+        return best;
+    }
 }
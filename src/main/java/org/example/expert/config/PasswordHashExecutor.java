@@ -0,0 +1,97 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.common.metrics.LatencyHistogram;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 해싱을 요청 스레드가 아닌 전용 스레드 풀에서 실행합니다.
+ * 큐가 가득 차면 작업을 기다리게 하지 않고 바로 ServiceUnavailableException(503)을 던집니다.
+ * virtual 프로필에서도 이 풀은 플랫폼 스레드로 유지합니다. CPU 를 오래 쓰는 해싱을 가상 스레드에서 돌리면 캐리어 스레드를 점유합니다.
+ */
+@Component
+public class PasswordHashExecutor implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+
+    private final LatencyHistogram encodeLatency = new LatencyHistogram();
+    private final LatencyHistogram matchLatency = new LatencyHistogram();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public PasswordHashExecutor(
+            PasswordEncoder passwordEncoder,
+            @Value("${password.hash.threads:0}") int threads,
+            @Value("${password.hash.queue-capacity:64}") int queueCapacity
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword), encodeLatency);
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchLatency);
+    }
+
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.needsRehash(encodedPassword);
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public LatencyHistogram getEncodeLatency() {
+        return encodeLatency;
+    }
+
+    public LatencyHistogram getMatchLatency() {
+        return matchLatency;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task, LatencyHistogram latency) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return task.get();
+                } finally {
+                    latency.record(System.nanoTime() - startedAt);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import org.example.expert.domain.user.enums.UserRole;
+
+import java.util.Date;
+
+@Getter
+public class VerifiedToken {
+
+    private final Long userId;
+    private final String email;
+    private final UserRole userRole;
+    private final long expiresAt;
+
+    public VerifiedToken(Long userId, String email, UserRole userRole, long expiresAt) {
+        this.userId = userId;
+        this.email = email;
+        this.userRole = userRole;
+        this.expiresAt = expiresAt;
+    }
+
+    public static VerifiedToken from(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                UserRole.valueOf(claims.get("userRole", String.class)),
+                expiration == null ? 0L : expiration.getTime()
+        );
+    }
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서명 검증이 끝난 JWT 의 사용자 정보를 토큰 만료 시각까지 보관하는 캐시
+ * 같은 토큰으로 반복 요청할 때 HMAC 검증과 claims 파싱을 건너뜁니다. max-size 를 0 으로 두면 캐시하지 않습니다.
+ * 크기 제한과 항목별 만료는 Caffeine 이 상수 시간에 처리하므로, 캐시가 가득 차도 put 이 전체 항목을 훑지 않습니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Cache<String, VerifiedToken> tokens;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        // 만료 시간은 put 시점에 토큰의 남은 유효 시간으로 지정합니다. 정리 작업은 호출 스레드에서 조금씩 나눠 처리합니다.
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxSize, 0))
+                .expireAfter(new PutDurationExpiry())
+                .executor(Runnable::run)
+                .build();
+    }
+
+    public VerifiedToken get(String token, long now) {
+        VerifiedToken verifiedToken = tokens.getIfPresent(token);
+        if (verifiedToken == null || verifiedToken.isExpired(now)) {
+            // 만료된 토큰은 검증을 다시 거쳐 ExpiredJwtException 이 발생하도록 합니다.
+            if (verifiedToken != null) {
+                tokens.asMap().remove(token, verifiedToken);
+            }
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return verifiedToken;
+    }
+
+    public void put(String token, VerifiedToken verifiedToken, long now) {
+        if (maxSize <= 0 || verifiedToken.isExpired(now)) {
+            return;
+        }
+        tokens.policy().expireVariably().orElseThrow()
+                .put(token, verifiedToken, Duration.ofMillis(verifiedToken.getExpiresAt() - now));
+    }
+
+    public long size() {
+        tokens.cleanUp();
+        return tokens.estimatedSize();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    // 항목마다 put 에서 지정한 만료 시간을 쓰며, 조회나 갱신으로 만료 시간이 늘어나지 않습니다.
+    private static class PutDurationExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String token, VerifiedToken verifiedToken, long currentTime) {
+            return 0L;
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
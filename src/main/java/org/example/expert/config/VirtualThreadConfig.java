@@ -0,0 +1,21 @@
+package org.example.expert.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * virtual 프로필 설정은 application-virtual.properties 에 있습니다.
+ * Java 17 에서는 spring.threads.virtual.enabled 가 조용히 무시되므로, 프로필을 켰는데 가상 스레드를 쓸 수 없으면 기동을 멈춥니다.
+ */
+@Configuration
+@Profile("virtual")
+public class VirtualThreadConfig {
+
+    private static final int MIN_JAVA_VERSION = 21;
+
+    public VirtualThreadConfig() {
+        if (Runtime.version().feature() < MIN_JAVA_VERSION) {
+            throw new IllegalStateException("virtual 프로필은 Java " + MIN_JAVA_VERSION + " 이상에서 실행해야 합니다. 현재 : " + Runtime.version());
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package org.example.expert.config;
 
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.example.expert.domain.common.aop.AdminLogAop;
-import org.springframework.context.annotation.Bean;
+import org.example.expert.domain.common.metrics.MetricsRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
@@ -14,7 +14,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
-    private final HttpServletRequest httpServletRequest;
+    private final ObjectProvider<MetricsRegistry> metricsRegistry;
 
     // ArgumentResolver 등록
     @Override
@@ -22,8 +22,9 @@ public class WebConfig implements WebMvcConfigurer {
         resolvers.add(new AuthUserArgumentResolver());
     }
 
-    @Bean
-    public AdminLogAop getAdminLogAop() {
-        return new AdminLogAop(httpServletRequest);
+    // 웹 슬라이스 테스트처럼 MetricsRegistry 빈이 없는 컨텍스트에서는 계측하지 않습니다.
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        metricsRegistry.ifAvailable(metrics -> registry.addInterceptor(new MetricsInterceptor(metrics)));
     }
 }
@@ -0,0 +1,33 @@
+package org.example.expert.domain.audit.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AdminAuditCursorResponse;
+import org.example.expert.domain.audit.dto.response.AdminAuditStatsResponse;
+import org.example.expert.domain.audit.service.AdminAuditRecorder;
+import org.example.expert.domain.audit.service.AdminAuditService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class AdminAuditController {
+
+    private final AdminAuditService adminAuditService;
+    private final AdminAuditRecorder adminAuditRecorder;
+
+    @GetMapping("/admin/audits")
+    public ResponseEntity<AdminAuditCursorResponse> getAudits(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(adminAuditService.getAudits(userId, cursor, size));
+    }
+
+    @GetMapping("/admin/audits/stats")
+    public ResponseEntity<AdminAuditStatsResponse> getAuditStats() {
+        return ResponseEntity.ok(adminAuditRecorder.getStats());
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class AdminAuditCursorResponse {
+
+    private final List<AdminAuditResponse> contents;
+    private final Long nextCursor;
+    private final boolean hasNext;
+
+    public AdminAuditCursorResponse(List<AdminAuditResponse> contents, Long nextCursor, boolean hasNext) {
+        this.contents = contents;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
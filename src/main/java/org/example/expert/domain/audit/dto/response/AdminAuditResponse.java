@@ -0,0 +1,25 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class AdminAuditResponse {
+
+    private final Long id;
+    private final Long userId;
+    private final String action;
+    private final String requestUri;
+    private final LocalDateTime occurredAt;
+    private final boolean success;
+
+    public AdminAuditResponse(Long id, Long userId, String action, String requestUri, LocalDateTime occurredAt, boolean success) {
+        this.id = id;
+        this.userId = userId;
+        this.action = action;
+        this.requestUri = requestUri;
+        this.occurredAt = occurredAt;
+        this.success = success;
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class AdminAuditStatsResponse {
+
+    private final String overflowPolicy;
+    private final int capacity;
+    private final int pending;
+    private final long recordedCount;
+    private final long droppedCount;
+    private final long writtenCount;
+    private final long failedCount;
+
+    public AdminAuditStatsResponse(String overflowPolicy, int capacity, int pending, long recordedCount,
+                                   long droppedCount, long writtenCount, long failedCount) {
+        this.overflowPolicy = overflowPolicy;
+        this.capacity = capacity;
+        this.pending = pending;
+        this.recordedCount = recordedCount;
+        this.droppedCount = droppedCount;
+        this.writtenCount = writtenCount;
+        this.failedCount = failedCount;
+    }
+}
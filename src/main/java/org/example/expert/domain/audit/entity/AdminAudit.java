@@ -0,0 +1,41 @@
+package org.example.expert.domain.audit.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "admin_audit", indexes = @Index(name = "idx_admin_audit_user_id_id", columnList = "user_id, id"))
+public class AdminAudit {
+
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "admin_audit_seq")
+    @SequenceGenerator(name = "admin_audit_seq", sequenceName = "admin_audit_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, length = 100)
+    private String action;
+
+    @Column(name = "request_uri")
+    private String requestUri;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(nullable = false)
+    private boolean success;
+
+    public AdminAudit(Long userId, String action, String requestUri, LocalDateTime occurredAt, boolean success) {
+        this.userId = userId;
+        this.action = action;
+        this.requestUri = requestUri;
+        this.occurredAt = occurredAt;
+        this.success = success;
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.expert.domain.audit.repository;
+
+import org.example.expert.domain.audit.dto.response.AdminAuditResponse;
+import org.example.expert.domain.audit.entity.AdminAudit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface AdminAuditRepository extends JpaRepository<AdminAudit, Long> {
+
+    String AUDIT_RESPONSE = "SELECT new org.example.expert.domain.audit.dto.response.AdminAuditResponse(" +
+            "a.id, a.userId, a.action, a.requestUri, a.occurredAt, a.success) FROM AdminAudit a ";
+
+    // 최신 기록부터 내려주며, cursor 는 직전 페이지 마지막 기록의 id 입니다.
+    @Query(AUDIT_RESPONSE + "WHERE a.id < :cursor ORDER BY a.id DESC")
+    List<AdminAuditResponse> findResponsesBefore(@Param("cursor") long cursor, Pageable pageable);
+
+    @Query(AUDIT_RESPONSE + "WHERE a.userId = :userId AND a.id < :cursor ORDER BY a.id DESC")
+    List<AdminAuditResponse> findResponsesByUserIdBefore(@Param("userId") long userId, @Param("cursor") long cursor, Pageable pageable);
+}
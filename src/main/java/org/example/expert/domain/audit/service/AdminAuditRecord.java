@@ -0,0 +1,35 @@
+package org.example.expert.domain.audit.service;
+
+import lombok.Getter;
+import org.example.expert.domain.audit.entity.AdminAudit;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 요청 스레드가 버퍼에 넣는 감사 기록
+ * 시각은 System.currentTimeMillis() 로만 받아 두고, LocalDateTime 변환은 저장하는 스레드에서 합니다.
+ */
+@Getter
+public class AdminAuditRecord {
+
+    private final Long userId;
+    private final String action;
+    private final String requestUri;
+    private final long occurredAtMillis;
+    private final boolean success;
+
+    public AdminAuditRecord(Long userId, String action, String requestUri, long occurredAtMillis, boolean success) {
+        this.userId = userId;
+        this.action = action;
+        this.requestUri = requestUri;
+        this.occurredAtMillis = occurredAtMillis;
+        this.success = success;
+    }
+
+    public AdminAudit toEntity() {
+        LocalDateTime occurredAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(occurredAtMillis), ZoneId.systemDefault());
+        return new AdminAudit(userId, action, requestUri, occurredAt, success);
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.expert.domain.audit.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.audit.dto.response.AdminAuditStatsResponse;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 관리자 API 호출 기록을 요청 스레드에서는 버퍼에 넣기만 하고, 스케줄러가 모아서 admin_audit 테이블에 저장합니다.
+ * 버퍼가 가득 차면 admin.audit.overflow-policy 에 따라 기록을 버리며, 요청은 감사 저장을 기다리지 않습니다.
+ */
+@Slf4j
+@Component
+public class AdminAuditRecorder implements DisposableBean {
+
+    private final AdminAuditWriter adminAuditWriter;
+    private final AuditRingBuffer buffer;
+    private final AuditOverflowPolicy overflowPolicy;
+    private final int batchSize;
+
+    private final AtomicLong recordedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private long reportedDropCount;
+
+    public AdminAuditRecorder(
+            AdminAuditWriter adminAuditWriter,
+            @Value("${admin.audit.buffer-capacity:8192}") int bufferCapacity,
+            @Value("${admin.audit.overflow-policy:DROP_NEWEST}") AuditOverflowPolicy overflowPolicy,
+            @Value("${admin.audit.batch-size:200}") int batchSize
+    ) {
+        this.adminAuditWriter = adminAuditWriter;
+        this.buffer = new AuditRingBuffer(bufferCapacity);
+        this.overflowPolicy = overflowPolicy;
+        this.batchSize = batchSize;
+    }
+
+    public void record(Long userId, String action, String requestUri, boolean success) {
+        AdminAuditRecord record = new AdminAuditRecord(userId, action, requestUri, System.currentTimeMillis(), success);
+        recordedCount.incrementAndGet();
+        if (buffer.offer(record)) {
+            return;
+        }
+
+        if (overflowPolicy == AuditOverflowPolicy.DROP_OLDEST && buffer.poll() != null) {
+            droppedCount.incrementAndGet();
+            // 그 사이 다른 요청이 빈자리를 먼저 차지하면 새 기록을 버립니다. 재시도하며 기다리지 않습니다.
+            if (buffer.offer(record)) {
+                return;
+            }
+        }
+        droppedCount.incrementAndGet();
+    }
+
+    // 저장에 실패한 묶음은 다시 넣지 않고 버립니다. DB 장애가 길어져도 버퍼가 막혀 새 기록이 밀려나지 않도록 합니다.
+    @Scheduled(fixedDelayString = "${admin.audit.flush-interval-ms:200}")
+    public synchronized int flush() {
+        int written = 0;
+        List<AdminAuditRecord> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            try {
+                adminAuditWriter.saveBatch(batch);
+                writtenCount.addAndGet(batch.size());
+                written += batch.size();
+            } catch (RuntimeException e) {
+                failedCount.addAndGet(batch.size());
+                log.warn("관리자 감사 기록 {} 건을 저장하지 못했습니다. : {}", batch.size(), e.getMessage());
+            }
+            batch = new ArrayList<>(batchSize);
+        }
+        reportDrops();
+        return written;
+    }
+
+    public AdminAuditStatsResponse getStats() {
+        return new AdminAuditStatsResponse(
+                overflowPolicy.name(),
+                buffer.capacity(),
+                buffer.size(),
+                recordedCount.get(),
+                droppedCount.get(),
+                writtenCount.get(),
+                failedCount.get()
+        );
+    }
+
+    // 종료 시 버퍼에 남은 기록을 저장합니다. 이 빈은 저장소보다 먼저 정리되므로 DB 는 아직 사용할 수 있습니다.
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private void reportDrops() {
+        long dropped = droppedCount.get();
+        if (dropped > reportedDropCount) {
+            log.warn("감사 버퍼가 가득 차 기록 {} 건을 버렸습니다. (정책 : {})", dropped - reportedDropCount, overflowPolicy);
+            reportedDropCount = dropped;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.expert.domain.audit.service;
+
+import org.example.expert.domain.audit.dto.response.AdminAuditCursorResponse;
+import org.example.expert.domain.audit.dto.response.AdminAuditResponse;
+import org.example.expert.domain.audit.repository.AdminAuditRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class AdminAuditService {
+
+    private final AdminAuditRepository adminAuditRepository;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public AdminAuditService(
+            AdminAuditRepository adminAuditRepository,
+            @Value("${admin.audit.page.default-size:50}") int defaultPageSize,
+            @Value("${admin.audit.page.max-size:200}") int maxPageSize
+    ) {
+        this.adminAuditRepository = adminAuditRepository;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    // 최신 기록부터 조회합니다. userId 를 주면 해당 관리자의 기록만 (user_id, id) 인덱스로 읽습니다.
+    public AdminAuditCursorResponse getAudits(Long userId, Long cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : size;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new InvalidRequestException("size 는 1 이상 " + maxPageSize + " 이하여야 합니다.");
+        }
+
+        long before = cursor == null ? Long.MAX_VALUE : cursor;
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<AdminAuditResponse> audits = userId == null
+                ? adminAuditRepository.findResponsesBefore(before, limit)
+                : adminAuditRepository.findResponsesByUserIdBefore(userId, before, limit);
+
+        boolean hasNext = audits.size() > pageSize;
+        List<AdminAuditResponse> contents = hasNext ? audits.subList(0, pageSize) : audits;
+        Long nextCursor = hasNext ? contents.get(contents.size() - 1).getId() : null;
+
+        return new AdminAuditCursorResponse(contents, nextCursor, hasNext);
+    }
+}
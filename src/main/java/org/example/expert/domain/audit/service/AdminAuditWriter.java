@@ -0,0 +1,26 @@
+package org.example.expert.domain.audit.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.repository.AdminAuditRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 버퍼에서 꺼낸 감사 기록 한 묶음을 하나의 트랜잭션으로 저장합니다.
+ * 시퀀스 id 를 쓰므로 INSERT 는 persistence.jdbc.batch-size 단위의 JDBC 배치로 나갑니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminAuditWriter {
+
+    private final AdminAuditRepository adminAuditRepository;
+
+    @Transactional
+    public void saveBatch(List<AdminAuditRecord> records) {
+        adminAuditRepository.saveAll(records.stream()
+                .map(AdminAuditRecord::toEntity)
+                .toList());
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.expert.domain.audit.service;
+
+/**
+ * 감사 버퍼가 가득 찼을 때의 처리 방식 (admin.audit.overflow-policy)
+ * 어느 쪽이든 요청 스레드는 기다리지 않으며, 버려진 건수는 droppedCount 로 집계됩니다.
+ */
+public enum AuditOverflowPolicy {
+
+    // 새 기록을 버립니다. 버퍼에 이미 있는 기록은 그대로 저장됩니다.
+    DROP_NEWEST,
+
+    // 가장 오래된 기록 하나를 버리고 새 기록을 넣습니다. 장애 직전의 최근 기록을 남기고 싶을 때 사용합니다.
+    DROP_OLDEST
+}
@@ -0,0 +1,99 @@
+package org.example.expert.domain.audit.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 락 없이 동작하는 고정 크기 링 버퍼 (슬롯마다 순번을 두는 bounded MPMC 큐)
+ * 생산자는 tail, 소비자는 head 를 CAS 로 한 칸씩 차지하며, 슬롯의 순번으로 그 칸이 비었는지 채워졌는지 판단합니다.
+ * 가득 차면 offer 가 바로 false 를 반환하므로 호출 스레드가 기다리는 일이 없습니다.
+ */
+public class AuditRingBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<AdminAuditRecord> records;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    // 슬롯 위치를 나머지 연산 대신 비트 마스크로 구하기 위해 용량을 2의 거듭제곱으로 올립니다.
+    public AuditRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2 || requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("감사 버퍼 크기는 2 이상 2^30 이하여야 합니다.");
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.records = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public boolean offer(AdminAuditRecord record) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    records.set(index, record);
+                    // 순번을 마지막에 올려야 소비자가 채워지지 않은 슬롯을 읽지 않습니다.
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                // 한 바퀴 전 기록이 아직 소비되지 않았습니다.
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    public AdminAuditRecord poll() {
+        long position = head.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - (position + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    AdminAuditRecord record = records.getAndSet(index, null);
+                    sequences.set(index, position + capacity);
+                    return record;
+                }
+                position = head.get();
+            } else if (diff < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    public int drainTo(List<AdminAuditRecord> sink, int maxRecords) {
+        int drained = 0;
+        while (drained < maxRecords) {
+            AdminAuditRecord record = poll();
+            if (record == null) {
+                break;
+            }
+            sink.add(record);
+            drained++;
+        }
+        return drained;
+    }
+
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
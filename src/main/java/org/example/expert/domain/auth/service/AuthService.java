@@ -1,48 +1,71 @@
 package org.example.expert.domain.auth.service;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.config.JwtUtil;
-import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PasswordHashExecutor;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+@Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashExecutor passwordHashExecutor;
     private final JwtUtil jwtUtil;
+    // 해싱이 끝난 뒤의 DB 작업은 BCrypt 풀이 아닌 애플리케이션 공용 실행기에서 처리합니다.
+    private final Executor taskExecutor;
+
+    public AuthService(
+            UserRepository userRepository,
+            PasswordHashExecutor passwordHashExecutor,
+            JwtUtil jwtUtil,
+            @Qualifier("applicationTaskExecutor") Executor taskExecutor
+    ) {
+        this.userRepository = userRepository;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.jwtUtil = jwtUtil;
+        this.taskExecutor = taskExecutor;
+    }
 
-    @Transactional
-    public SignupResponse signup(SignupRequest signupRequest) {
+    // 해싱은 전용 스레드 풀에서 비동기로 처리하고, 해싱하는 동안 트랜잭션(DB 커넥션)을 잡고 있지 않습니다.
+    // 저장은 해싱 스레드가 DB 를 기다리지 않도록 taskExecutor 로 넘겨 실행합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<SignupResponse> signup(SignupRequest signupRequest) {
 
         validEmail(signupRequest);
 
-        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
-
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
 
-        User newUser = new User(
-                signupRequest.getEmail(),
-                encodedPassword,
-                userRole
-        );
-        User savedUser = userRepository.save(newUser);
+        return passwordHashExecutor.encode(signupRequest.getPassword())
+                .thenApplyAsync(encodedPassword -> {
+                    User newUser = new User(
+                            signupRequest.getEmail(),
+                            encodedPassword,
+                            userRole
+                    );
+                    User savedUser = userRepository.save(newUser);
 
-        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
+                    String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
 
-        return new SignupResponse(bearerToken);
+                    return new SignupResponse(bearerToken);
+                }, taskExecutor);
     }
 
     private void validEmail(SignupRequest signupRequest) {
@@ -55,17 +78,47 @@ public class AuthService {
         }
     }
 
-    public SigninResponse signin(SigninRequest signinRequest) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<SigninResponse> signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
-        // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
-        if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
-            throw new AuthException("잘못된 비밀번호입니다.");
-        }
+        return passwordHashExecutor.matches(signinRequest.getPassword(), user.getPassword())
+                .thenApply(matched -> {
+                    // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
+                    if (!matched) {
+                        throw new AuthException("잘못된 비밀번호입니다.");
+                    }
+
+                    rehashIfNeeded(user, signinRequest.getPassword());
 
-        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+                    String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
 
-        return new SigninResponse(bearerToken);
+                    return new SigninResponse(bearerToken);
+                });
+    }
+
+    // 저장된 해시의 cost 가 현재 설정과 다르면 응답을 기다리게 하지 않고 백그라운드에서 다시 해싱해 저장합니다.
+    // 저장은 읽어 둔 해시가 그대로일 때만 하므로, 그 사이 바뀐 비밀번호를 예전 비밀번호로 되돌리지 않습니다.
+    private void rehashIfNeeded(User user, String rawPassword) {
+        String currentPassword = user.getPassword();
+        if (!passwordHashExecutor.needsRehash(currentPassword)) {
+            return;
+        }
+        try {
+            passwordHashExecutor.encode(rawPassword)
+                    .thenAcceptAsync(encodedPassword -> {
+                        if (userRepository.updatePassword(user.getId(), currentPassword, encodedPassword) == 0) {
+                            log.debug("재해싱 전에 비밀번호가 변경되어 저장을 건너뜁니다. userId : {}", user.getId());
+                        }
+                    }, taskExecutor)
+                    .exceptionally(e -> {
+                        log.warn("비밀번호 재해싱에 실패했습니다. userId : {}", user.getId(), e);
+                        return null;
+                    });
+        } catch (ServiceUnavailableException e) {
+            // 해싱 큐가 가득 찬 경우 다음 로그인 때 다시 시도합니다.
+            log.debug("해싱 큐가 가득 차 재해싱을 건너뜁니다. userId : {}", user.getId());
+        }
     }
 }
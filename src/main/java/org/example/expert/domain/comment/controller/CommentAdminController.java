@@ -16,4 +16,9 @@ public class CommentAdminController {
     public void deleteComment(@PathVariable long commentId) {
         commentAdminService.deleteComment(commentId);
     }
+
+    @DeleteMapping("/admin/todos/{todoId}/comments")
+    public void purgeComments(@PathVariable long todoId) {
+        commentAdminService.purgeComments(todoId);
+    }
 }
@@ -3,6 +3,7 @@ package org.example.expert.domain.comment.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentCursorResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
@@ -17,6 +18,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CommentController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final CommentService commentService;
 
     @PostMapping("/todos/{todoId}/comments")
@@ -30,6 +33,22 @@ public class CommentController {
 
     @GetMapping("/todos/{todoId}/comments")
     public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
-        return ResponseEntity.ok(commentService.getComments(todoId));
+        CommentCursorResponse comments = commentService.getComments(todoId);
+
+        // 최대 건수에서 잘렸으면 본문 형식은 그대로 두고, /comments/cursor 로 이어서 읽을 커서를 헤더로 알려줍니다.
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (comments.isHasNext()) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(comments.getNextCursor()));
+        }
+        return response.body(comments.getContents());
+    }
+
+    @GetMapping("/todos/{todoId}/comments/cursor")
+    public ResponseEntity<CommentCursorResponse> getCommentsByCursor(
+            @PathVariable long todoId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(commentService.getCommentsByCursor(todoId, cursor, size));
     }
 }
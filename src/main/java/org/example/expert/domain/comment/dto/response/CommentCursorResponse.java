@@ -0,0 +1,19 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CommentCursorResponse {
+
+    private final List<CommentResponse> contents;
+    private final Long nextCursor;
+    private final boolean hasNext;
+
+    public CommentCursorResponse(List<CommentResponse> contents, Long nextCursor, boolean hasNext) {
+        this.contents = contents;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
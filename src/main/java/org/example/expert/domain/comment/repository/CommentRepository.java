@@ -1,14 +1,37 @@
 package org.example.expert.domain.comment.repository;
 
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id IN :todoIds ORDER BY c.id")
+    List<Comment> findByTodoIdsWithUser(@Param("todoIds") Collection<Long> todoIds);
+
+    String COMMENT_RESPONSE = "SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) ";
+
+    // (todo_id, id) 인덱스를 따라 작성 순으로 읽습니다. 개수는 Pageable 의 size 로 제한합니다.
+    @Query(COMMENT_RESPONSE + "FROM Comment c JOIN c.user u WHERE c.todo.id = :todoId ORDER BY c.id")
+    List<CommentResponse> findFirstCommentResponses(@Param("todoId") Long todoId, Pageable pageable);
+
+    @Query(COMMENT_RESPONSE + "FROM Comment c JOIN c.user u WHERE c.todo.id = :todoId AND c.id > :cursorId ORDER BY c.id")
+    List<CommentResponse> findNextCommentResponses(@Param("todoId") Long todoId, @Param("cursorId") Long cursorId, Pageable pageable);
+
+    // 청크 삭제용 : JPQL DELETE 에는 LIMIT 이 없으므로 todo_id 인덱스로 id 를 먼저 잘라 옵니다.
+    // 지울 순서는 상관없으므로 ORDER BY 를 두지 않습니다. 정렬이 있으면 청크마다 남은 댓글 전체를 정렬합니다.
+    @Query("SELECT c.id FROM Comment c WHERE c.todo.id = :todoId")
+    List<Long> findIdsByTodoId(@Param("todoId") Long todoId, Pageable pageable);
+
+    // 엔티티를 읽지 않고 DELETE 한 문장으로 지웁니다. 반환값은 실제로 지운 행 수입니다.
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int bulkDeleteByIds(@Param("ids") Collection<Long> ids);
 }
@@ -1,18 +1,44 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.repository.TodoRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final TodoRepository todoRepository;
+    private final CommentChunkDeleter commentChunkDeleter;
 
+    // 없는 댓글이면 기존 deleteById 와 같이 아무것도 하지 않습니다.
     @Transactional
     public void deleteComment(long commentId) {
-        commentRepository.deleteById(commentId);
+        commentRepository.findById(commentId).ifPresent(comment -> {
+            commentRepository.delete(comment);
+            todoRepository.addCommentCount(comment.getTodo().getId(), -1);
+        });
+    }
+
+    // 일정의 댓글 전체 삭제 : 하나의 트랜잭션으로 묶지 않고 청크마다 커밋합니다.
+    public void purgeComments(long todoId) {
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+
+        int total = 0;
+        int deleted;
+        do {
+            deleted = commentChunkDeleter.deleteChunk(todoId);
+            total += deleted;
+        } while (deleted > 0);
+
+        log.info("일정 {} 의 댓글 {} 건을 삭제했습니다.", todoId, total);
     }
 }
@@ -0,0 +1,45 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 일정의 댓글을 chunk-size 건씩 한 트랜잭션으로 지웁니다.
+ * 댓글 엔티티를 읽지 않고 DELETE ... WHERE id IN (...) 한 문장으로 지우므로, 댓글이 많아도 잠금은 청크 하나 동안만 잡힙니다.
+ * 호출하는 쪽에서 0 이 반환될 때까지 반복합니다.
+ */
+@Component
+public class CommentChunkDeleter {
+
+    private final CommentRepository commentRepository;
+    private final TodoRepository todoRepository;
+    private final int chunkSize;
+
+    public CommentChunkDeleter(
+            CommentRepository commentRepository,
+            TodoRepository todoRepository,
+            @Value("${todo.delete.chunk-size:1000}") int chunkSize
+    ) {
+        this.commentRepository = commentRepository;
+        this.todoRepository = todoRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    @Transactional
+    public int deleteChunk(long todoId) {
+        List<Long> ids = commentRepository.findIdsByTodoId(todoId, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int deleted = commentRepository.bulkDeleteByIds(ids);
+        todoRepository.addCommentCount(todoId, -deleted);
+        return deleted;
+    }
+}
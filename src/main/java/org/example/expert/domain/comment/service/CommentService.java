@@ -1,31 +1,52 @@
 package org.example.expert.domain.comment.service;
 
-import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentCursorResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
-import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
 
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int maxListSize;
+
+    public CommentService(
+            TodoRepository todoRepository,
+            CommentRepository commentRepository,
+            ManagerRepository managerRepository,
+            @Value("${comment.page.default-size:20}") int defaultPageSize,
+            @Value("${comment.page.max-size:100}") int maxPageSize,
+            @Value("${comment.list.max-size:1000}") int maxListSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.commentRepository = commentRepository;
+        this.managerRepository = managerRepository;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.maxListSize = maxListSize;
+    }
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
@@ -33,10 +54,9 @@ public class CommentService {
         Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
                 new InvalidRequestException("Todo not found"));
 
-        List<Manager> managers = todo.getManagers();
-
-        if (!isManagerMatched(managers, user)) {
-            throw new InvalidRequestException("안됨");
+        // 담당자 목록 전체를 불러오지 않고 (todo_id, user_id) 인덱스로 존재 여부만 확인합니다.
+        if (!managerRepository.existsByTodoIdAndUserId(todo.getId(), user.getId())) {
+            throw new InvalidRequestException("일정의 담당자만 댓글을 작성할 수 있습니다.");
         }
 
         Comment newComment = new Comment(
@@ -46,6 +66,7 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        todoRepository.addCommentCount(todo.getId(), 1);
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -54,24 +75,32 @@ public class CommentService {
         );
     }
 
-    public boolean isManagerMatched(List<Manager> managers, User user) {
-        return managers.stream()
-                .anyMatch(manager -> manager.getId().equals(user.getId()));
+    // 페이지 없는 기존 목록 : 댓글이 아무리 많아도 작성 순으로 최대 maxListSize 건까지만 내려줍니다.
+    // 잘렸는지는 커서 목록과 같은 방식으로 maxListSize + 1 건을 조회해 판단하고, 이어서 읽을 커서를 함께 돌려줍니다.
+    public CommentCursorResponse getComments(long todoId) {
+        return readPage(todoId, null, maxListSize);
     }
 
-    public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
-
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
+    // cursor 는 직전 페이지 마지막 댓글의 id 입니다. 다음 페이지 존재 여부는 size + 1 개를 조회해서 판단합니다.
+    public CommentCursorResponse getCommentsByCursor(long todoId, Long cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : size;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new InvalidRequestException("size 는 1 이상 " + maxPageSize + " 이하여야 합니다.");
         }
-        return dtoList;
+
+        return readPage(todoId, cursor, pageSize);
+    }
+
+    private CommentCursorResponse readPage(long todoId, Long cursor, int pageSize) {
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<CommentResponse> comments = cursor == null
+                ? commentRepository.findFirstCommentResponses(todoId, limit)
+                : commentRepository.findNextCommentResponses(todoId, cursor, limit);
+
+        boolean hasNext = comments.size() > pageSize;
+        List<CommentResponse> contents = hasNext ? comments.subList(0, pageSize) : comments;
+        Long nextCursor = hasNext ? contents.get(contents.size() - 1).getId() : null;
+
+        return new CommentCursorResponse(contents, nextCursor, hasNext);
     }
 }
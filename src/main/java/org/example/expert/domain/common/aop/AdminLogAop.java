@@ -1,40 +1,42 @@
 package org.example.expert.domain.common.aop;
 
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.apache.tomcat.util.net.openssl.ciphers.Authentication;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
-import org.springframework.cglib.core.Local;
+import org.example.expert.domain.audit.service.AdminAuditRecorder;
 
-import java.time.LocalDateTime;
-
-@Slf4j
 @Aspect
 public class AdminLogAop {
 
     private final HttpServletRequest servletRequest;
+    private final AdminAuditRecorder adminAuditRecorder;
 
-    public AdminLogAop(HttpServletRequest servletRequest) {
+    public AdminLogAop(HttpServletRequest servletRequest, AdminAuditRecorder adminAuditRecorder) {
         this.servletRequest = servletRequest;
+        this.adminAuditRecorder = adminAuditRecorder;
     }
 
     @Pointcut("execution(* org.example.expert.domain.comment.service.CommentAdminService.deleteComment(..)) ||" +
+              "execution(* org.example.expert.domain.comment.service.CommentAdminService.purgeComments(..)) ||" +
               "execution(* org.example.expert.domain.user.service.UserAdminService.changeUserRole(..))")
     private void serviceLayer() {
     }
 
+    // 요청 스레드에서는 기록을 버퍼에 넣기만 하고, 저장은 AdminAuditRecorder 가 모아서 처리합니다.
     @Around("serviceLayer()")
     public void aroundAdminLog(ProceedingJoinPoint joinPoint) throws Throwable {
 
         Long userId = (Long) servletRequest.getAttribute("userId");
-        LocalDateTime accessTime = LocalDateTime.now();
         String requestUrl = servletRequest.getRequestURI();
 
-        log.info("\n::: User ID : {} :::\n::: Access Time : {}:::\n::: URL : {} :::", userId, accessTime, requestUrl);
-        joinPoint.proceed();
+        boolean success = false;
+        try {
+            joinPoint.proceed();
+            success = true;
+        } finally {
+            adminAuditRecorder.record(userId, joinPoint.getSignature().toShortString(), requestUrl, success);
+        }
     }
 }
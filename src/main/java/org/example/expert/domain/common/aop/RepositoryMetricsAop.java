@@ -0,0 +1,58 @@
+package org.example.expert.domain.common.aop;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.domain.common.metrics.MetricsRegistry;
+import org.example.expert.domain.common.metrics.TimedMetric;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 모든 저장소 메서드의 실행 시간을 "repository 저장소.메서드" 이름으로 기록합니다.
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryMetricsAop {
+
+    private final MetricsRegistry metricsRegistry;
+
+    // findById 처럼 상속받은 메서드는 선언 타입이 CrudRepository 이므로, 저장소 프록시 클래스별로 타이머를 나눠 둡니다.
+    private final ClassValue<ConcurrentHashMap<Method, TimedMetric>> timersByRepository = new ClassValue<>() {
+        @Override
+        protected ConcurrentHashMap<Method, TimedMetric> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    @Around("execution(* org.example.expert.domain..repository.*Repository.*(..))")
+    public Object aroundRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        TimedMetric timer = timerOf(joinPoint.getThis().getClass(), ((MethodSignature) joinPoint.getSignature()).getMethod());
+        long startedAt = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timer.record(System.nanoTime() - startedAt);
+        }
+    }
+
+    private TimedMetric timerOf(Class<?> proxyType, Method method) {
+        ConcurrentHashMap<Method, TimedMetric> timers = timersByRepository.get(proxyType);
+        TimedMetric timer = timers.get(method);
+        return timer != null ? timer : timers.computeIfAbsent(method, key ->
+                metricsRegistry.timer("repository " + repositoryName(proxyType, key) + "." + key.getName()));
+    }
+
+    private static String repositoryName(Class<?> proxyType, Method method) {
+        return Arrays.stream(proxyType.getInterfaces())
+                .filter(Repository.class::isAssignableFrom)
+                .findFirst()
+                .orElse(method.getDeclaringClass())
+                .getSimpleName();
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.expert.domain.common.cache;
+
+public final class CacheNames {
+
+    public static final String USERS = "users";
+    public static final String TODOS = "todos";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.expert.domain.common.cache;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * User, Todo 엔티티가 flush 될 때 조회 캐시를 지웁니다.
+ * Todo.update, User.updateRole 등 dirty checking 으로 반영되는 모든 변경이 대상입니다.
+ * 비밀번호 변경은 벌크 UPDATE(UserRepository.updatePassword)라 이 리스너를 거치지 않고, 해당 메서드의 @CacheEvict 로 지웁니다.
+ * CacheManager 가 트랜잭션을 인식하므로 실제 삭제는 커밋 직후에 일어납니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityCacheListener {
+
+    private final CacheManager cacheManager;
+
+    @PostUpdate
+    @PostRemove
+    public void evict(Object entity) {
+        if (entity instanceof User user) {
+            evict(CacheNames.USERS, user.getId());
+        } else if (entity instanceof Todo todo) {
+            evict(CacheNames.TODOS, todo.getId());
+        }
+    }
+
+    private void evict(String cacheName, Long id) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && id != null) {
+            cache.evict(id);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.common.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.cache.CacheStatsService;
+import org.example.expert.domain.common.dto.CacheStatsResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class CacheAdminController {
+
+    private final CacheStatsService cacheStatsService;
+
+    @GetMapping("/admin/caches")
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+        return ResponseEntity.ok(cacheStatsService.getCacheStats());
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.domain.common.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.GaugeResponse;
+import org.example.expert.domain.common.dto.MetricResponse;
+import org.example.expert.domain.common.metrics.MetricsRegistry;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class MetricsAdminController {
+
+    private final MetricsRegistry metricsRegistry;
+
+    @GetMapping("/admin/metrics")
+    public ResponseEntity<List<MetricResponse>> getMetrics() {
+        return ResponseEntity.ok(metricsRegistry.snapshot());
+    }
+
+    @GetMapping("/admin/metrics/gauges")
+    public ResponseEntity<List<GaugeResponse>> getGauges() {
+        return ResponseEntity.ok(metricsRegistry.gaugeSnapshot());
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+@Getter
+public class CacheStatsResponse {
+
+    private final String name;
+    private final long size;
+    private final long hitCount;
+    private final long missCount;
+    private final double hitRate;
+    private final long evictionCount;
+
+    public CacheStatsResponse(String name, long size, long hitCount, long missCount, double hitRate, long evictionCount) {
+        this.name = name;
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.hitRate = hitRate;
+        this.evictionCount = evictionCount;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+@Getter
+public class GaugeResponse {
+
+    private final String name;
+    private final Object value;
+
+    public GaugeResponse(String name, Object value) {
+        this.name = name;
+        this.value = value;
+    }
+}
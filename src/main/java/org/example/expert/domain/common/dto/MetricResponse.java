@@ -0,0 +1,30 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+@Getter
+public class MetricResponse {
+
+    private final String name;
+    private final long count;
+    private final double ratePerSecond;
+    private final double meanMillis;
+    private final double p50Millis;
+    private final double p90Millis;
+    private final double p99Millis;
+    private final double p999Millis;
+    private final double maxMillis;
+
+    public MetricResponse(String name, long count, double ratePerSecond, double meanMillis,
+                          double p50Millis, double p90Millis, double p99Millis, double p999Millis, double maxMillis) {
+        this.name = name;
+        this.count = count;
+        this.ratePerSecond = ratePerSecond;
+        this.meanMillis = meanMillis;
+        this.p50Millis = p50Millis;
+        this.p90Millis = p90Millis;
+        this.p99Millis = p99Millis;
+        this.p999Millis = p999Millis;
+        this.maxMillis = maxMillis;
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.expert.domain.common.metrics;
+
+import org.example.expert.domain.common.dto.GaugeResponse;
+import org.example.expert.domain.common.dto.MetricResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 이름별 TimedMetric 저장소
+ * 기록하는 쪽은 TimedMetric 을 한 번 받아 두고 재사용하므로, 요청마다 이름 문자열을 만들거나 맵을 조회하지 않습니다.
+ * 카운터나 상태처럼 지연시간이 아닌 값은 게이지로 등록해 두고 조회할 때 읽습니다.
+ */
+@Component
+public class MetricsRegistry {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final ConcurrentHashMap<String, TimedMetric> metrics = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Supplier<?>> gauges = new ConcurrentHashMap<>();
+
+    public TimedMetric timer(String name) {
+        TimedMetric metric = metrics.get(name);
+        return metric != null ? metric : metrics.computeIfAbsent(name, key -> new TimedMetric(key, new LatencyHistogram()));
+    }
+
+    // 이미 자체 히스토그램을 가진 컴포넌트(WeatherClient, PasswordHashExecutor)는 그 히스토그램을 그대로 노출합니다.
+    public void register(String name, LatencyHistogram histogram) {
+        metrics.putIfAbsent(name, new TimedMetric(name, histogram));
+    }
+
+    public void gauge(String name, Supplier<?> value) {
+        gauges.putIfAbsent(name, value);
+    }
+
+    @Scheduled(fixedRateString = "${metrics.rate.tick-interval-ms:5000}")
+    public void tick() {
+        long now = System.nanoTime();
+        metrics.values().forEach(metric -> metric.tick(now));
+    }
+
+    public List<MetricResponse> snapshot() {
+        long now = System.nanoTime();
+        return metrics.values().stream()
+                .filter(metric -> metric.getHistogram().getCount() > 0)
+                .sorted(Comparator.comparing(TimedMetric::getName))
+                .map(metric -> toResponse(metric, now))
+                .toList();
+    }
+
+    public List<GaugeResponse> gaugeSnapshot() {
+        return gauges.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new GaugeResponse(entry.getKey(), entry.getValue().get()))
+                .toList();
+    }
+
+    private static MetricResponse toResponse(TimedMetric metric, long now) {
+        LatencyHistogram histogram = metric.getHistogram();
+        return new MetricResponse(
+                metric.getName(),
+                histogram.getCount(),
+                metric.ratePerSecond(now),
+                histogram.getMeanNanos() / NANOS_PER_MILLI,
+                histogram.getPercentileNanos(50) / NANOS_PER_MILLI,
+                histogram.getPercentileNanos(90) / NANOS_PER_MILLI,
+                histogram.getPercentileNanos(99) / NANOS_PER_MILLI,
+                histogram.getPercentileNanos(99.9) / NANOS_PER_MILLI,
+                histogram.getMaxNanos() / NANOS_PER_MILLI
+        );
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.expert.domain.common.metrics;
+
+/**
+ * 이름 하나에 해당하는 지연 시간 분포와 처리량
+ * 기록은 LatencyHistogram 에 그대로 위임하고, 최근 1분 처리량 계산용 표본은 스케줄러가 tick() 으로 남깁니다.
+ */
+public class TimedMetric {
+
+    private static final int WINDOW_TICKS = 12;
+
+    private final String name;
+    private final LatencyHistogram histogram;
+    private final long registeredAtNanos = System.nanoTime();
+
+    private final long[] tickCounts = new long[WINDOW_TICKS];
+    private final long[] tickNanos = new long[WINDOW_TICKS];
+    private int nextTick;
+    private int ticks;
+
+    TimedMetric(String name, LatencyHistogram histogram) {
+        this.name = name;
+        this.histogram = histogram;
+    }
+
+    public void record(long nanos) {
+        histogram.record(nanos);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    synchronized void tick(long nowNanos) {
+        tickCounts[nextTick] = histogram.getCount();
+        tickNanos[nextTick] = nowNanos;
+        nextTick = (nextTick + 1) % WINDOW_TICKS;
+        ticks = Math.min(ticks + 1, WINDOW_TICKS);
+    }
+
+    // 가장 오래된 표본부터 지금까지의 초당 처리량입니다. 표본이 아직 없으면 등록 시점부터 계산합니다.
+    synchronized double ratePerSecond(long nowNanos) {
+        long count = histogram.getCount();
+        long sinceCount = 0;
+        long sinceNanos = registeredAtNanos;
+        if (ticks > 0) {
+            int oldest = ticks < WINDOW_TICKS ? 0 : nextTick;
+            sinceCount = tickCounts[oldest];
+            sinceNanos = tickNanos[oldest];
+        }
+        long elapsedNanos = nowNanos - sinceNanos;
+        return elapsedNanos <= 0 ? 0 : (count - sinceCount) * 1_000_000_000.0 / elapsedNanos;
+    }
+}
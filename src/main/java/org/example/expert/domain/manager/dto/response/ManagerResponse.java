@@ -13,4 +13,9 @@ public class ManagerResponse {
         this.id = id;
         this.user = user;
     }
+
+    // JPQL 생성자 표현식(SELECT new ...)용
+    public ManagerResponse(Long id, Long userId, String email) {
+        this(id, new UserResponse(userId, email));
+    }
 }
@@ -9,10 +9,12 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+// (todo_id, user_id) 유니크 인덱스 : 같은 담당자 중복 등록을 막고, 담당자 여부 확인과 일정별 담당자 조회에 함께 쓰입니다.
+@Table(name = "managers", uniqueConstraints = @UniqueConstraint(name = "uk_managers_todo_id_user_id", columnNames = {"todo_id", "user_id"}))
 public class Manager {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "managers_seq")
+    @SequenceGenerator(name = "managers_seq", sequenceName = "managers_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
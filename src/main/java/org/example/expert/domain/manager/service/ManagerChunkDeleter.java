@@ -0,0 +1,43 @@
+package org.example.expert.domain.manager.service;
+
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 일정의 담당자를 chunk-size 건씩 한 트랜잭션으로 지웁니다. 동작은 CommentChunkDeleter 와 같습니다.
+ */
+@Component
+public class ManagerChunkDeleter {
+
+    private final ManagerRepository managerRepository;
+    private final TodoRepository todoRepository;
+    private final int chunkSize;
+
+    public ManagerChunkDeleter(
+            ManagerRepository managerRepository,
+            TodoRepository todoRepository,
+            @Value("${todo.delete.chunk-size:1000}") int chunkSize
+    ) {
+        this.managerRepository = managerRepository;
+        this.todoRepository = todoRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    @Transactional
+    public int deleteChunk(long todoId) {
+        List<Long> ids = managerRepository.findIdsByTodoId(todoId, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int deleted = managerRepository.bulkDeleteByIds(ids);
+        todoRepository.addManagerCount(todoId, -deleted);
+        return deleted;
+    }
+}
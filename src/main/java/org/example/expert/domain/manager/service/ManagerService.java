@@ -14,6 +14,7 @@ import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
@@ -47,8 +48,20 @@ public class ManagerService {
             throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
+        if (managerRepository.existsByTodoIdAndUserId(todo.getId(), managerUser.getId())) {
+            throw new InvalidRequestException("이미 등록된 담당자입니다.");
+        }
+
+        // 동시에 같은 담당자를 등록하면 위 확인을 둘 다 통과할 수 있으므로, 유니크 인덱스 위반도 같은 오류로 응답합니다.
+        // 커밋 시점이 아니라 여기서 위반을 받기 위해 바로 flush 합니다.
         Manager newManagerUser = new Manager(managerUser, todo);
-        Manager savedManagerUser = managerRepository.save(newManagerUser);
+        Manager savedManagerUser;
+        try {
+            savedManagerUser = managerRepository.saveAndFlush(newManagerUser);
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidRequestException("이미 등록된 담당자입니다.");
+        }
+        todoRepository.addManagerCount(todo.getId(), 1);
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -85,6 +98,7 @@ public class ManagerService {
         validTodoManager(todo, manager);
 
         managerRepository.delete(manager);
+        todoRepository.addManagerCount(todo.getId(), -1);
     }
 
     private void validTodoManager(Todo todo, Manager manager) {
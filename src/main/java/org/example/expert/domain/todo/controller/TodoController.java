@@ -1,22 +1,36 @@
 package org.example.expert.domain.todo.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.service.TodoBulkService;
+import org.example.expert.domain.todo.service.TodoDeleteService;
+import org.example.expert.domain.todo.service.TodoExportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoBulkService todoBulkService;
+    private final TodoExportService todoExportService;
+    private final TodoDeleteService todoDeleteService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -26,16 +40,61 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    // 본문은 JSON 배열 또는 NDJSON, 응답은 항목별 결과를 한 줄씩 담은 NDJSON 입니다.
+    @PostMapping(value = "/todos/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> saveTodos(
+            @Auth AuthUser authUser,
+            HttpServletRequest request
+    ) throws IOException {
+        return ResponseEntity.ok(todoBulkService.saveTodos(authUser, request.getInputStream()));
+    }
+
+    // 로그인한 유저의 일정 전체를 댓글과 함께 한 줄에 하나씩 내려줍니다.
+    @GetMapping(value = "/todos/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTodos(@Auth AuthUser authUser) {
+        long userId = authUser.getId();
+        return ResponseEntity.ok(outputStream -> todoExportService.exportTodos(userId, outputStream));
+    }
+
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean approximateTotal
+    ) {
+        return ResponseEntity.ok(todoService.getTodos(page, size, approximateTotal));
+    }
+
+    @GetMapping("/todos/slice")
+    public ResponseEntity<Slice<TodoResponse>> getTodoSlice(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getTodoSlice(page, size));
+    }
+
+    @GetMapping("/todos/cursor")
+    public ResponseEntity<TodoCursorResponse> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size));
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
     }
 
     @GetMapping("/todos/{todoId}")
     public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
         return ResponseEntity.ok(todoService.getTodo(todoId));
     }
+
+    @GetMapping("/todos/{todoId}/detail")
+    public ResponseEntity<TodoDetailResponse> getTodoDetail(@PathVariable long todoId) {
+        return ResponseEntity.ok(todoService.getTodoDetail(todoId));
+    }
+
+    @DeleteMapping("/todos/{todoId}")
+    public void deleteTodo(@Auth AuthUser authUser, @PathVariable long todoId) {
+        todoDeleteService.deleteTodo(authUser, todoId);
+    }
 }
@@ -0,0 +1,45 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 일정 목록 커서 : 마지막으로 내려준 일정의 (modifiedAt, id)
+ * 클라이언트에는 내용을 알 수 없도록 Base64 URL 문자열로 인코딩해서 내려줍니다.
+ */
+@Getter
+public class TodoCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime modifiedAt;
+    private final Long id;
+
+    public TodoCursor(LocalDateTime modifiedAt, Long id) {
+        this.modifiedAt = modifiedAt;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = modifiedAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TodoCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            return new TodoCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+    }
+}
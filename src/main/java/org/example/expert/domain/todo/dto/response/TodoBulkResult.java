@@ -0,0 +1,35 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoBulkResult {
+
+    public enum Status {
+        CREATED, INVALID, FAILED
+    }
+
+    private final int index;
+    private final Long id;
+    private final Status status;
+    private final String message;
+
+    private TodoBulkResult(int index, Long id, Status status, String message) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+        this.message = message;
+    }
+
+    public static TodoBulkResult created(int index, Long id) {
+        return new TodoBulkResult(index, id, Status.CREATED, null);
+    }
+
+    public static TodoBulkResult invalid(int index, String message) {
+        return new TodoBulkResult(index, null, Status.INVALID, message);
+    }
+
+    public static TodoBulkResult failed(int index, String message) {
+        return new TodoBulkResult(index, null, Status.FAILED, message);
+    }
+}
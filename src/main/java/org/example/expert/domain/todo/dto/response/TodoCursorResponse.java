@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoCursorResponse {
+
+    private final List<TodoResponse> contents;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public TodoCursorResponse(List<TodoResponse> contents, String nextCursor, boolean hasNext) {
+        this.contents = contents;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.comment.dto.response.CommentCursorResponse;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+
+import java.util.List;
+
+@Getter
+public class TodoDetailResponse {
+
+    private final TodoResponse todo;
+    private final List<ManagerResponse> managers;
+    // 댓글은 첫 페이지만 담습니다. 나머지는 nextCursor 로 /todos/{todoId}/comments/cursor 에서 이어 받습니다.
+    private final CommentCursorResponse comments;
+
+    public TodoDetailResponse(TodoResponse todo, List<ManagerResponse> managers, CommentCursorResponse comments) {
+        this.todo = todo;
+        this.managers = managers;
+        this.comments = comments;
+    }
+}
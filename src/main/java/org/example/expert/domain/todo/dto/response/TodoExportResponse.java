@@ -0,0 +1,29 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+public class TodoExportResponse {
+
+    private final Long id;
+    private final String title;
+    private final String contents;
+    private final String weather;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+    private final List<CommentResponse> comments;
+
+    public TodoExportResponse(Long id, String title, String contents, String weather, LocalDateTime createdAt, LocalDateTime modifiedAt, List<CommentResponse> comments) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.weather = weather;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+        this.comments = comments;
+    }
+}
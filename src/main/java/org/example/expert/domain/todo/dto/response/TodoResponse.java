@@ -13,16 +13,25 @@ public class TodoResponse {
     private final String contents;
     private final String weather;
     private final UserResponse user;
+    private final int commentCount;
+    private final int managerCount;
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
 
-    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, int commentCount, int managerCount, LocalDateTime createdAt, LocalDateTime modifiedAt) {
         this.id = id;
         this.title = title;
         this.contents = contents;
         this.weather = weather;
         this.user = user;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
     }
+
+    // JPQL 생성자 표현식(SELECT new ...)용 : 엔티티를 거치지 않고 필요한 컬럼만 받아 만듭니다.
+    public TodoResponse(Long id, String title, String contents, String weather, Long userId, String email, int commentCount, int managerCount, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, new UserResponse(userId, email), commentCount, managerCount, createdAt, modifiedAt);
+    }
 }
@@ -3,7 +3,9 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.cache.EntityCacheListener;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
@@ -14,23 +16,37 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = @Index(name = "idx_todos_modified_at_id", columnList = "modified_at DESC, id DESC"))
+@EntityListeners(EntityCacheListener.class)
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_seq")
+    @SequenceGenerator(name = "todos_seq", sequenceName = "todos_seq", allocationSize = 50)
     private Long id;
     private String title;
     private String contents;
     private String weather;
 
+    // 목록에서 컬렉션을 읽지 않고 개수를 보여주기 위한 비정규화 카운터입니다.
+    // 값은 TodoRepository 의 원자적 UPDATE 로만 바꾸고, 엔티티 dirty checking 으로는 덮어쓰지 않습니다.
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int commentCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int managerCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // 삭제 시 댓글/담당자는 TodoDeleteService 가 청크 단위 DELETE 로 먼저 지웁니다.
+    // 여기 cascade REMOVE 는 그 사이에 새로 생긴 몇 건을 마지막 삭제 트랜잭션에서 함께 지우는 용도입니다.
     @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
     private List<Comment> comments = new ArrayList<>();
 
-    @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
+    @OneToMany(mappedBy = "todo", cascade = {CascadeType.PERSIST, CascadeType.REMOVE})
     private List<Manager> managers = new ArrayList<>();
 
     public Todo(String title, String contents, String weather, User user) {
@@ -39,6 +55,7 @@ public class Todo extends Timestamped {
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = this.managers.size();
     }
 
     public void update(String title, String contents) {
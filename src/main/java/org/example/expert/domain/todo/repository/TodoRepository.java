@@ -1,23 +1,103 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.common.cache.CacheNames;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
-import org.springframework.data.domain.Page;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 목록 조회는 엔티티 대신 TodoResponse 에 필요한 컬럼만 DTO 로 바로 받습니다.
+    // 영속성 컨텍스트에 올라가지 않으므로 스냅샷 생성, dirty checking, flush 대상이 없습니다.
+    // 댓글/담당자 개수는 todos 의 카운터 컬럼을 그대로 읽으므로 추가 쿼리가 없습니다.
+    String TODO_RESPONSE = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.commentCount, t.managerCount, t.createdAt, t.modifiedAt) ";
+
+    // Slice 반환이므로 size + 1 개만 읽어 다음 페이지 여부를 판단하고 count 쿼리는 실행하지 않습니다.
+    @Query(TODO_RESPONSE +
+            "FROM Todo t LEFT JOIN t.user u " +
+            "ORDER BY t.modifiedAt DESC")
+    Slice<TodoResponse> findTodoResponses(Pageable pageable);
+
+    // 커서 기반 조회는 count 쿼리 없이 (modified_at, id) 인덱스를 따라 읽습니다.
+    // LEFT JOIN 이어야 todos 가 조인의 기준 테이블이 되어 인덱스 순서대로 읽고 바로 멈출 수 있습니다.
+    @Query(TODO_RESPONSE +
+            "FROM Todo t LEFT JOIN t.user u " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findFirstTodoResponses(Pageable pageable);
+
+    // OR 조건만으로는 인덱스 범위 탐색이 되지 않아 modifiedAt <= :modifiedAt 조건을 앞에 둡니다.
+    @Query(TODO_RESPONSE +
+            "FROM Todo t LEFT JOIN t.user u " +
+            "WHERE t.modifiedAt <= :modifiedAt AND (t.modifiedAt < :modifiedAt OR t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findNextTodoResponses(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(TODO_RESPONSE +
+            "FROM Todo t LEFT JOIN t.user u " +
+            "WHERE t.id = :todoId")
+    Optional<TodoResponse> findResponseById(@Param("todoId") Long todoId);
 
     @Query("SELECT t FROM Todo t " +
             "LEFT JOIN FETCH t.user " +
             "WHERE t.id = :todoId")
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
+    // 내보내기용 forward-only 커서 : 드라이버가 fetch size 만큼씩 나눠 가져오고 엔티티 스냅샷은 만들지 않습니다.
+    // MySQL Connector/J 는 JDBC URL 에 useCursorFetch=true 가 있어야 fetch size 를 지킵니다.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Todo t WHERE t.user.id = :userId ORDER BY t.id")
+    Stream<Todo> streamByUserId(@Param("userId") Long userId);
+
     int countById(Long todoId);
+
+    // 카운터는 읽고-쓰기 없이 한 문장으로 증감하므로 동시에 댓글이 달려도 값을 잃지 않습니다.
+    // 벌크 UPDATE 는 엔티티 리스너를 거치지 않으므로 캐시를 직접 지웁니다.
+    @CacheEvict(cacheNames = CacheNames.TODOS, key = "#p0")
+    @Transactional
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + :delta WHERE t.id = :todoId")
+    int addCommentCount(@Param("todoId") Long todoId, @Param("delta") int delta);
+
+    @CacheEvict(cacheNames = CacheNames.TODOS, key = "#p0")
+    @Transactional
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta WHERE t.id = :todoId")
+    int addManagerCount(@Param("todoId") Long todoId, @Param("delta") int delta);
+
+    @Query("SELECT MAX(t.id) FROM Todo t")
+    Long findMaxId();
+
+    // id 구간마다 실제 개수와 다른 행만 고칩니다. 반환값은 고친 행 수입니다.
+    @Transactional
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id) " +
+            "WHERE t.id BETWEEN :fromId AND :toId " +
+            "AND t.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id)")
+    int reconcileCommentCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id) " +
+            "WHERE t.id BETWEEN :fromId AND :toId " +
+            "AND t.managerCount <> (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id)")
+    int reconcileManagerCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -0,0 +1,168 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkResult;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 일정 일괄 등록 : JSON 배열 또는 NDJSON 본문을 한 건씩 읽어 검증하고, chunk-size 건마다 한 트랜잭션으로 저장합니다.
+ * 결과는 항목마다 NDJSON 한 줄로 청크 단위로 흘려보내므로 입력 크기와 관계없이 메모리에는 청크 하나만 남습니다.
+ */
+@Slf4j
+@Service
+public class TodoBulkService {
+
+    private final TodoBulkWriter todoBulkWriter;
+    private final TodoCountCache todoCountCache;
+    private final WeatherClient weatherClient;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public TodoBulkService(
+            TodoBulkWriter todoBulkWriter,
+            TodoCountCache todoCountCache,
+            WeatherClient weatherClient,
+            ObjectMapper objectMapper,
+            Validator validator,
+            @Value("${todo.bulk.chunk-size:500}") int chunkSize
+    ) {
+        this.todoBulkWriter = todoBulkWriter;
+        this.todoCountCache = todoCountCache;
+        this.weatherClient = weatherClient;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    // 날씨는 요청당 한 번만 조회하고, 실패하면 본문을 읽기 전에 예외로 응답합니다.
+    public StreamingResponseBody saveTodos(AuthUser authUser, InputStream body) {
+        User user = User.fromAuthUser(authUser);
+        String weather = weatherClient.getTodayWeather();
+
+        return outputStream -> importTodos(user, weather, body, outputStream);
+    }
+
+    private void importTodos(User user, String weather, InputStream body, OutputStream outputStream) throws IOException {
+        Chunk chunk = new Chunk(chunkSize);
+        int index = 0;
+
+        try (SequenceWriter results = objectMapper.writer().withRootValueSeparator("\n").writeValues(outputStream);
+             MappingIterator<TodoSaveRequest> requests = objectMapper.readerFor(TodoSaveRequest.class).readValues(body)) {
+            try {
+                while (requests.hasNextValue()) {
+                    TodoSaveRequest request = requests.nextValue();
+                    String violation = validate(request);
+                    if (violation != null) {
+                        chunk.addInvalid(index, violation);
+                    } else {
+                        chunk.addTodo(index, new Todo(request.getTitle(), request.getContents(), weather, user));
+                    }
+                    index++;
+
+                    if (chunk.size() >= chunkSize) {
+                        flush(chunk, results);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                // 문법이 깨진 본문은 이어서 읽을 수 없으므로 그때까지 읽은 항목만 저장하고 멈춥니다.
+                log.warn("일괄 등록 본문을 읽지 못해 {} 번째 항목에서 중단합니다. : {}", index, e.getMessage());
+                chunk.addInvalid(index, "본문을 읽을 수 없습니다. : " + e.getMessage());
+            }
+            flush(chunk, results);
+        }
+    }
+
+    private void flush(Chunk chunk, SequenceWriter results) throws IOException {
+        if (!chunk.todos.isEmpty()) {
+            try {
+                List<Long> ids = todoBulkWriter.saveChunk(chunk.todos);
+                for (int i = 0; i < ids.size(); i++) {
+                    chunk.results.set(chunk.todoSlots.get(i), TodoBulkResult.created(chunk.todoIndexes.get(i), ids.get(i)));
+                }
+                todoCountCache.increment(ids.size());
+            } catch (RuntimeException e) {
+                // flush 중 발생한 PersistenceException 처럼 변환되지 않은 예외도 청크 실패로 응답하고 다음 청크를 이어 갑니다.
+                log.warn("일괄 등록 청크 저장에 실패했습니다. : {}", e.getMessage());
+                for (int i = 0; i < chunk.todos.size(); i++) {
+                    chunk.results.set(chunk.todoSlots.get(i), TodoBulkResult.failed(chunk.todoIndexes.get(i), "저장에 실패했습니다."));
+                }
+            }
+        }
+
+        for (TodoBulkResult result : chunk.results) {
+            results.write(result);
+        }
+        results.flush();
+        chunk.clear();
+    }
+
+    private String validate(TodoSaveRequest request) {
+        Set<ConstraintViolation<TodoSaveRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " : " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    // 입력 순서대로 결과를 내보내기 위해 저장 대상이 결과 목록의 몇 번째 자리인지 함께 기록합니다.
+    private static class Chunk {
+
+        private final List<Todo> todos;
+        private final List<Integer> todoIndexes;
+        private final List<Integer> todoSlots;
+        private final List<TodoBulkResult> results;
+
+        private Chunk(int chunkSize) {
+            this.todos = new ArrayList<>(chunkSize);
+            this.todoIndexes = new ArrayList<>(chunkSize);
+            this.todoSlots = new ArrayList<>(chunkSize);
+            this.results = new ArrayList<>(chunkSize);
+        }
+
+        private void addTodo(int index, Todo todo) {
+            todos.add(todo);
+            todoIndexes.add(index);
+            todoSlots.add(results.size());
+            results.add(null);
+        }
+
+        private void addInvalid(int index, String message) {
+            results.add(TodoBulkResult.invalid(index, message));
+        }
+
+        private int size() {
+            return results.size();
+        }
+
+        private void clear() {
+            todos.clear();
+            todoIndexes.clear();
+            todoSlots.clear();
+            results.clear();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 일괄 등록의 청크 하나를 하나의 트랜잭션으로 저장합니다.
+ * OSIV 가 켜져 있으면 트랜잭션이 끝나도 요청의 영속성 컨텍스트가 유지되므로, 청크마다 flush 후 비워서 엔티티가 쌓이지 않게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoBulkWriter {
+
+    private final TodoRepository todoRepository;
+    private final EntityManager entityManager;
+
+    @Transactional
+    public List<Long> saveChunk(List<Todo> todos) {
+        List<Long> ids = todoRepository.saveAll(todos).stream()
+                .map(Todo::getId)
+                .toList();
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 일정 개수 캐시 : 목록 조회마다 todos 전체를 COUNT 하지 않도록 주기적으로만 다시 셉니다.
+ * 갱신 사이에는 저장/삭제 시 증감만 반영하므로 근사값일 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoCountCache {
+
+    private static final long NOT_LOADED = -1L;
+
+    private final TodoRepository todoRepository;
+    private final AtomicLong count = new AtomicLong(NOT_LOADED);
+    private final AtomicLong refreshCount = new AtomicLong();
+
+    // 아직 한 번도 세지 않았다면 첫 호출에서만 직접 COUNT 합니다.
+    public long get() {
+        long cached = count.get();
+        if (cached != NOT_LOADED) {
+            return cached;
+        }
+        return load();
+    }
+
+    @Scheduled(fixedDelayString = "${todo.count.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            load();
+        } catch (DataAccessException e) {
+            log.warn("일정 개수 캐시 갱신에 실패했습니다. 기존 값을 유지합니다. : {}", e.getMessage());
+        }
+    }
+
+    public void increment() {
+        add(1);
+    }
+
+    public void increment(long delta) {
+        add(delta);
+    }
+
+    public void decrement(long delta) {
+        add(-delta);
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+
+    private long load() {
+        long loaded = todoRepository.count();
+        count.set(loaded);
+        refreshCount.incrementAndGet();
+        return loaded;
+    }
+
+    private void add(long delta) {
+        count.updateAndGet(current -> current == NOT_LOADED ? NOT_LOADED : Math.max(current + delta, 0));
+    }
+}
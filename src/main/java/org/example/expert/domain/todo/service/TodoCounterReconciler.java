@@ -0,0 +1,72 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.cache.CacheNames;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일정의 댓글/담당자 카운터를 실제 행 수와 맞춥니다.
+ * 카운터 갱신은 댓글/담당자 변경과 같은 트랜잭션에서 일어나지만, SQL 로 직접 지운 행처럼 서비스를 거치지 않은 변경은 어긋날 수 있습니다.
+ * 테이블 전체를 한 트랜잭션으로 잠그지 않도록 id 구간(chunk-size)마다 따로 커밋합니다.
+ */
+@Slf4j
+@Component
+public class TodoCounterReconciler {
+
+    private final TodoRepository todoRepository;
+    private final CacheManager cacheManager;
+    private final int chunkSize;
+
+    public TodoCounterReconciler(
+            TodoRepository todoRepository,
+            CacheManager cacheManager,
+            @Value("${todo.counter.reconcile-chunk-size:1000}") int chunkSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.cacheManager = cacheManager;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${todo.counter.reconcile-interval-ms:3600000}",
+            fixedDelayString = "${todo.counter.reconcile-interval-ms:3600000}"
+    )
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (DataAccessException e) {
+            log.warn("일정 카운터 보정에 실패했습니다. 다음 주기에 다시 시도합니다. : {}", e.getMessage());
+        }
+    }
+
+    // 고친 행 수를 반환합니다. 한 행의 두 카운터가 모두 틀렸다면 2 로 셉니다.
+    public int reconcile() {
+        Long maxId = todoRepository.findMaxId();
+        if (maxId == null) {
+            return 0;
+        }
+
+        int repaired = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            long toId = fromId + chunkSize - 1;
+            repaired += todoRepository.reconcileCommentCounts(fromId, toId);
+            repaired += todoRepository.reconcileManagerCounts(fromId, toId);
+        }
+
+        if (repaired > 0) {
+            log.info("일정 카운터 {} 건을 보정했습니다.", repaired);
+            // 어떤 일정이 고쳐졌는지는 알 수 없으므로 일정 캐시를 통째로 비웁니다.
+            Cache todos = cacheManager.getCache(CacheNames.TODOS);
+            if (todos != null) {
+                todos.clear();
+            }
+        }
+        return repaired;
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.service.CommentChunkDeleter;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.service.ManagerChunkDeleter;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * 일정 삭제 : 댓글과 담당자를 청크 단위 DELETE 로 먼저 지운 뒤 일정 엔티티를 삭제합니다.
+ * 엔티티 cascade 로 지우면 댓글을 전부 읽어 한 건씩 DELETE 하는 동안 하나의 트랜잭션이 잠금을 쥐고 있게 됩니다.
+ * 중간에 실패하면 일정은 남아 있고 다시 호출하면 남은 행부터 이어서 지웁니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoDeleteService {
+
+    private final TodoRepository todoRepository;
+    private final CommentChunkDeleter commentChunkDeleter;
+    private final ManagerChunkDeleter managerChunkDeleter;
+    private final TodoCountCache todoCountCache;
+
+    public void deleteTodo(AuthUser authUser, long todoId) {
+        Todo todo = todoRepository.findByIdWithUser(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(authUser.getId(), todo.getUser().getId())) {
+            throw new InvalidRequestException("일정을 만든 유저만 삭제할 수 있습니다.");
+        }
+
+        // 청크마다 커밋하며 남은 행이 없을 때까지 반복합니다.
+        int deleted;
+        do {
+            deleted = commentChunkDeleter.deleteChunk(todoId);
+        } while (deleted > 0);
+        do {
+            deleted = managerChunkDeleter.deleteChunk(todoId);
+        } while (deleted > 0);
+
+        // 엔티티로 삭제해야 EntityCacheListener 가 호출되어 일정 캐시가 비워집니다.
+        todoRepository.deleteById(todoId);
+        todoCountCache.decrement(1);
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.persistence.EntityManager;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.dto.response.TodoExportResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 유저의 일정 전체를 댓글과 함께 NDJSON 으로 내보냅니다.
+ * 일정은 forward-only 커서로 읽고, chunk-size 건마다 댓글을 IN 쿼리 한 번으로 불러와 쓴 뒤 영속성 컨텍스트를 비웁니다.
+ * 그래서 내보내는 행 수와 관계없이 메모리에는 청크 하나만 남습니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TodoExportService {
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public TodoExportService(
+            TodoRepository todoRepository,
+            CommentRepository commentRepository,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            @Value("${todo.export.chunk-size:500}") int chunkSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.commentRepository = commentRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    // 스트림은 트랜잭션 안에서만 읽을 수 있으므로 응답 쓰기까지 이 메서드 안에서 끝냅니다.
+    public void exportTodos(long userId, OutputStream outputStream) throws IOException {
+        try (SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(outputStream);
+             Stream<Todo> todos = todoRepository.streamByUserId(userId)) {
+            List<Todo> chunk = new ArrayList<>(chunkSize);
+            Iterator<Todo> iterator = todos.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() >= chunkSize) {
+                    writeChunk(chunk, writer);
+                }
+            }
+            writeChunk(chunk, writer);
+        }
+    }
+
+    private void writeChunk(List<Todo> chunk, SequenceWriter writer) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<CommentResponse>> commentsByTodoId = findComments(chunk);
+        for (Todo todo : chunk) {
+            writer.write(new TodoExportResponse(
+                    todo.getId(),
+                    todo.getTitle(),
+                    todo.getContents(),
+                    todo.getWeather(),
+                    todo.getCreatedAt(),
+                    todo.getModifiedAt(),
+                    commentsByTodoId.getOrDefault(todo.getId(), List.of())
+            ));
+        }
+        writer.flush();
+
+        chunk.clear();
+        entityManager.clear();
+    }
+
+    private Map<Long, List<CommentResponse>> findComments(List<Todo> chunk) {
+        List<Long> todoIds = chunk.stream().map(Todo::getId).toList();
+
+        Map<Long, List<CommentResponse>> commentsByTodoId = new HashMap<>();
+        for (Comment comment : commentRepository.findByTodoIdsWithUser(todoIds)) {
+            commentsByTodoId.computeIfAbsent(comment.getTodo().getId(), id -> new ArrayList<>())
+                    .add(new CommentResponse(
+                            comment.getId(),
+                            comment.getContents(),
+                            new UserResponse(comment.getUser().getId(), comment.getUser().getEmail())
+                    ));
+        }
+        return commentsByTodoId;
+    }
+}
@@ -1,35 +1,77 @@
 package org.example.expert.domain.todo.service;
 
-import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.dto.response.CommentCursorResponse;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.cache.CacheNames;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final TodoCountCache todoCountCache;
+    private final ManagerRepository managerRepository;
+    private final CommentRepository commentRepository;
+    private final int detailCommentSize;
+
+    public TodoService(
+            TodoRepository todoRepository,
+            WeatherClient weatherClient,
+            TodoCountCache todoCountCache,
+            ManagerRepository managerRepository,
+            CommentRepository commentRepository,
+            @Value("${comment.page.default-size:20}") int detailCommentSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.weatherClient = weatherClient;
+        this.todoCountCache = todoCountCache;
+        this.managerRepository = managerRepository;
+        this.commentRepository = commentRepository;
+        this.detailCommentSize = detailCommentSize;
+    }
 
-    @Transactional
+    // 날씨 조회 중에는 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 실행하고, insert 는 save() 의 짧은 트랜잭션에서 처리합니다.
+    // 날씨 요청을 먼저 보내 두고, 응답을 기다리는 동안 나머지 준비를 진행합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
+        CompletableFuture<String> weatherFuture = weatherClient.getTodayWeatherAsync();
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        String weather = awaitWeather(weatherFuture);
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -38,6 +80,7 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        todoCountCache.increment();
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -48,22 +91,70 @@ public class TodoService {
         );
     }
 
-    public Page<TodoResponse> getTodos(int page, int size) {
+    // 전체 개수는 기본적으로 정확히 셉니다. 마지막 페이지처럼 개수를 알 수 있으면 COUNT 를 생략합니다.
+    // approximateTotal 을 요청하면 주기적으로 갱신되는 캐시 값을 사용하므로 실제 개수와 다를 수 있습니다.
+    public Page<TodoResponse> getTodos(int page, int size, boolean approximateTotal) {
+        Slice<TodoResponse> todos = getTodoSlice(page, size);
+
+        if (approximateTotal) {
+            return new PageImpl<>(todos.getContent(), todos.getPageable(), todoCountCache.get());
+        }
+        return PageableExecutionUtils.getPage(todos.getContent(), todos.getPageable(), todoRepository::count);
+    }
+
+    public Slice<TodoResponse> getTodoSlice(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+        return todoRepository.findTodoResponses(pageable);
+    }
 
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+    // 다음 페이지 존재 여부를 알기 위해 size + 1 개를 조회하고, 전체 개수는 세지 않습니다.
+    public TodoCursorResponse getTodosByCursor(String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<TodoResponse> todos;
+        if (cursor == null || cursor.isBlank()) {
+            todos = todoRepository.findFirstTodoResponses(limit);
+        } else {
+            TodoCursor todoCursor = TodoCursor.decode(cursor);
+            todos = todoRepository.findNextTodoResponses(todoCursor.getModifiedAt(), todoCursor.getId(), limit);
+        }
+
+        boolean hasNext = todos.size() > size;
+        List<TodoResponse> contents = hasNext ? todos.subList(0, size) : todos;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoResponse last = contents.get(contents.size() - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+
+        return new TodoCursorResponse(contents, nextCursor, hasNext);
     }
 
+    // 일정, 담당자, 댓글을 한 트랜잭션에서 쿼리 3번으로 조회합니다.
+    // 컬렉션을 한 번에 fetch join 하면 담당자 x 댓글 만큼 행이 곱해지므로 각각 따로 DTO 로 읽습니다.
+    // 댓글은 개수 제한이 없으므로 커서 목록과 같은 크기의 첫 페이지만 읽고 다음 커서를 함께 내려줍니다.
+    public TodoDetailResponse getTodoDetail(long todoId) {
+        TodoResponse todo = todoRepository.findResponseById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        List<CommentResponse> comments = commentRepository.findFirstCommentResponses(todoId, PageRequest.of(0, detailCommentSize + 1));
+        boolean hasNext = comments.size() > detailCommentSize;
+        List<CommentResponse> contents = hasNext ? comments.subList(0, detailCommentSize) : comments;
+        Long nextCursor = hasNext ? contents.get(contents.size() - 1).getId() : null;
+
+        return new TodoDetailResponse(
+                todo,
+                managerRepository.findResponsesByTodoId(todoId),
+                new CommentCursorResponse(contents, nextCursor, hasNext)
+        );
+    }
+
+    @Cacheable(cacheNames = CacheNames.TODOS, key = "#todoId", sync = true)
     public TodoResponse getTodo(long todoId) {
         Todo todo = todoRepository.findByIdWithUser(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
@@ -76,8 +167,22 @@ public class TodoService {
                 todo.getContents(),
                 todo.getWeather(),
                 new UserResponse(user.getId(), user.getEmail()),
+                todo.getCommentCount(),
+                todo.getManagerCount(),
                 todo.getCreatedAt(),
                 todo.getModifiedAt()
         );
     }
+
+    // 비동기 조회에서 발생한 예외를 감싸지 않은 원래 예외로 돌려 기존 예외 처리를 그대로 따르게 합니다.
+    private static String awaitWeather(CompletableFuture<String> weatherFuture) {
+        try {
+            return weatherFuture.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ServerException("날씨 조회에 실패했습니다. : " + e.getMessage());
+        }
+    }
 }
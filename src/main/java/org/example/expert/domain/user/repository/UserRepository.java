@@ -1,11 +1,25 @@
 package org.example.expert.domain.user.repository;
 
+import org.example.expert.domain.common.cache.CacheNames;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 벌크 UPDATE 는 엔티티 리스너를 거치지 않으므로 캐시를 직접 지웁니다.
+    // 읽어 둔 해시가 그대로일 때만 바꿉니다. 그 사이 다른 요청이 비밀번호를 바꿨다면 0 을 반환합니다.
+    @CacheEvict(cacheNames = CacheNames.USERS, key = "#p0")
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePassword(@Param("userId") Long userId, @Param("oldPassword") String oldPassword, @Param("password") String password);
 }
@@ -0,0 +1,34 @@
+package org.example.expert.domain.user.service;
+
+/**
+ * 새 비밀번호 규칙 : 8 자 이상, 숫자와 대문자를 각각 1개 이상 포함
+ * 정규식 없이 문자열을 한 번만 순회합니다.
+ */
+public final class PasswordPolicy {
+
+    public static final int MIN_LENGTH = 8;
+
+    private PasswordPolicy() {
+    }
+
+    public static boolean isValid(String password) {
+        if (password == null || password.length() < MIN_LENGTH) {
+            return false;
+        }
+
+        boolean hasNumber = false;
+        boolean hasUpperCase = false;
+        for (int i = 0; i < password.length(); i++) {
+            char c = password.charAt(i);
+            if (c >= '0' && c <= '9') {
+                hasNumber = true;
+            } else if (c >= 'A' && c <= 'Z') {
+                hasUpperCase = true;
+            }
+            if (hasNumber && hasUpperCase) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
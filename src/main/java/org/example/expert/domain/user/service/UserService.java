@@ -1,65 +1,78 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
-import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PasswordHashExecutor;
+import org.example.expert.domain.common.cache.CacheNames;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-    private static final Integer PASSWORD_MIN_LENGTH = 8;
+    private final PasswordHashExecutor passwordHashExecutor;
 
+    @Cacheable(cacheNames = CacheNames.USERS, key = "#userId", sync = true)
     public UserResponse getUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         return new UserResponse(user.getId(), user.getEmail());
     }
 
-    @Transactional
+    // BCrypt 검증과 해싱은 트랜잭션 밖에서 기다리고, 저장은 조건부 UPDATE 한 번으로 짧게 끝냅니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
 
         validPassword(userChangePasswordRequest);
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
+        String currentPassword = user.getPassword();
 
-        if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
+        // 재사용 여부는 요청의 기존 비밀번호와 문자열로 비교하고, BCrypt 검증은 기존 비밀번호 확인에 한 번만 수행합니다.
+        if (userChangePasswordRequest.getNewPassword().equals(userChangePasswordRequest.getOldPassword())) {
             throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
         }
 
-        if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
+        if (!awaitHash(passwordHashExecutor.matches(userChangePasswordRequest.getOldPassword(), currentPassword))) {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
 
-        user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
-    }
+        String encodedPassword = awaitHash(passwordHashExecutor.encode(userChangePasswordRequest.getNewPassword()));
 
-    private void validPassword(UserChangePasswordRequest userChangePasswordRequest) {
-        if (validPasswordLength(userChangePasswordRequest) ||
-                !containsNumber(userChangePasswordRequest) ||
-                !containsUpperCase(userChangePasswordRequest)) {
-            throw new InvalidRequestException("새 비밀번호는 " + PASSWORD_MIN_LENGTH + " 자 이상이어야 하고, 숫자와 대문자를 포함해야 합니다.");
+        // 해싱하는 동안 다른 요청이 비밀번호를 바꿨다면 덮어쓰지 않습니다.
+        if (userRepository.updatePassword(userId, currentPassword, encodedPassword) == 0) {
+            throw new InvalidRequestException("비밀번호가 다른 요청에서 변경되었습니다. 다시 시도해주세요.");
         }
     }
 
-    private boolean validPasswordLength(UserChangePasswordRequest userChangePasswordRequest) {
-        return userChangePasswordRequest.getNewPassword().length() < PASSWORD_MIN_LENGTH;
-    }
-
-    private boolean containsUpperCase(UserChangePasswordRequest userChangePasswordRequest) {
-        return userChangePasswordRequest.getNewPassword().matches(".*[A-Z].*");
+    // 해싱 중 발생한 예외(ServiceUnavailableException 등)를 CompletionException 에서 꺼내 그대로 던집니다.
+    private static <T> T awaitHash(CompletableFuture<T> hashFuture) {
+        try {
+            return hashFuture.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ServerException("비밀번호 해싱에 실패했습니다. : " + e.getMessage());
+        }
     }
 
-    private boolean containsNumber(UserChangePasswordRequest userChangePasswordRequest) {
-        return userChangePasswordRequest.getNewPassword().matches(".*\\d.*");
+    private void validPassword(UserChangePasswordRequest userChangePasswordRequest) {
+        if (!PasswordPolicy.isValid(userChangePasswordRequest.getNewPassword())) {
+            throw new InvalidRequestException("새 비밀번호는 " + PasswordPolicy.MIN_LENGTH + " 자 이상이어야 하고, 숫자와 대문자를 포함해야 합니다.");
+        }
     }
 }
@@ -0,0 +1,42 @@
+package org.example.expert.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeatherCacheTest {
+
+    @Test
+    void 캐시에_있는_날짜는_hit으로_집계된다() {
+        // given
+        WeatherCache weatherCache = new WeatherCache();
+        weatherCache.refresh(Map.of("01-01", "Sunny", "01-02", "Rainy"));
+
+        // when
+        Optional<String> weather = weatherCache.get("01-02");
+
+        // then
+        assertEquals("Rainy", weather.orElseThrow());
+        assertEquals(1, weatherCache.getHitCount());
+        assertEquals(0, weatherCache.getMissCount());
+        assertEquals(1, weatherCache.getRefreshCount());
+    }
+
+    @Test
+    void 캐시에_없는_날짜는_miss로_집계된다() {
+        // given
+        WeatherCache weatherCache = new WeatherCache();
+
+        // when
+        Optional<String> weather = weatherCache.get("01-01");
+
+        // then
+        assertTrue(weather.isEmpty());
+        assertEquals(0, weatherCache.getHitCount());
+        assertEquals(1, weatherCache.getMissCount());
+    }
+}
@@ -0,0 +1,202 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WeatherClientTest {
+
+    private static final String WEATHER_JSON = "[{\"date\":\"01-01\",\"weather\":\"Sunny\"},{\"date\":\"01-02\",\"weather\":\"Rainy\"}]";
+
+    private HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile int responseStatus = 200;
+    private volatile long responseDelayMillis;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/f-api/weather.json", exchange -> {
+            requestCount.incrementAndGet();
+            sleep(responseDelayMillis);
+            byte[] body = WEATHER_JSON.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 날씨_데이터는_한_번만_조회하고_캐시에서_반환한다() {
+        // given
+        WeatherClient weatherClient = createClient(5);
+
+        // when
+        String first = weatherClient.getWeather("01-01");
+        String second = weatherClient.getWeather("01-02");
+
+        // then
+        assertEquals("Sunny", first);
+        assertEquals("Rainy", second);
+        assertEquals(1, requestCount.get());
+        assertEquals(1, weatherClient.getLatencyHistogram().getCount());
+        assertEquals(1, weatherClient.getCacheMissCount());
+        assertEquals(1, weatherClient.getCacheHitCount());
+        assertEquals(1, weatherClient.getCacheRefreshCount());
+    }
+
+    @Test
+    void 연속_실패시_서킷이_열리고_외부_호출을_하지_않는다() {
+        // given
+        WeatherClient weatherClient = createClient(2);
+        responseStatus = 500;
+
+        // when
+        assertThrows(ServerException.class, () -> weatherClient.getWeather("01-01"));
+        assertThrows(ServerException.class, () -> weatherClient.getWeather("01-01"));
+        assertThrows(ServerException.class, () -> weatherClient.getWeather("01-01"));
+
+        // then
+        assertEquals(2, requestCount.get());
+        assertEquals(CircuitBreaker.State.OPEN, weatherClient.getCircuitBreakerState());
+    }
+
+    @Test
+    void 장애시_마지막으로_성공한_날씨를_반환한다() {
+        // given
+        WeatherClient weatherClient = createClient(1);
+        weatherClient.getWeather("01-01");
+        responseStatus = 500;
+
+        // when
+        String weather = weatherClient.getWeather("12-31");
+
+        // then
+        assertEquals("Sunny", weather);
+        assertEquals(1, weatherClient.getFallbackCount());
+        assertEquals(CircuitBreaker.State.OPEN, weatherClient.getCircuitBreakerState());
+    }
+
+    @Test
+    void 동시에_비동기로_조회해도_외부_호출은_한_번만_한다() {
+        // given
+        WeatherClient weatherClient = createClient(5);
+        responseDelayMillis = 200;
+
+        // when
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(weatherClient.getWeatherAsync("01-01"));
+        }
+
+        // then
+        futures.forEach(future -> assertEquals("Sunny", future.join()));
+        assertEquals("Rainy", weatherClient.getWeatherAsync("01-02").join());
+        assertEquals(1, requestCount.get());
+        assertEquals(1, weatherClient.getLatencyHistogram().getCount());
+    }
+
+    @Test
+    void 비동기_조회도_장애시_마지막으로_성공한_날씨를_반환한다() {
+        // given
+        WeatherClient weatherClient = createClient(1);
+        weatherClient.getWeatherAsync("01-01").join();
+        responseStatus = 500;
+
+        // when
+        String weather = weatherClient.getWeatherAsync("12-31").join();
+
+        // then
+        assertEquals("Sunny", weather);
+        assertEquals(1, weatherClient.getFallbackCount());
+        assertEquals(CircuitBreaker.State.OPEN, weatherClient.getCircuitBreakerState());
+    }
+
+    @Test
+    void 비동기_조회가_실패하면_ServerException_으로_완료된다() {
+        // given
+        WeatherClient weatherClient = createClient(5);
+        responseStatus = 500;
+
+        // when
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> weatherClient.getWeatherAsync("01-01").join());
+
+        // then
+        assertInstanceOf(ServerException.class, exception.getCause());
+        assertEquals(1, requestCount.get());
+    }
+
+    @Test
+    void 동기_조회도_진행_중인_비동기_호출을_함께_기다린다() {
+        // given
+        WeatherClient weatherClient = createClient(5);
+        responseDelayMillis = 200;
+
+        // when
+        CompletableFuture<String> asyncWeather = weatherClient.getWeatherAsync("01-01");
+        String syncWeather = weatherClient.getWeather("01-02");
+
+        // then
+        assertEquals("Sunny", asyncWeather.join());
+        assertEquals("Rainy", syncWeather);
+        assertEquals(1, requestCount.get());
+    }
+
+    @Test
+    void 요청을_보내기_전에_실패해도_진행_중_자리를_비우고_실패로_완료한다() {
+        // given : HttpClient 가 지원하지 않는 스킴이라 요청을 만드는 즉시 예외가 납니다.
+        WeatherClient weatherClient = createClient("ftp://localhost:" + server.getAddress().getPort(), 5);
+
+        // when & then : 두 번째 조회가 첫 조회의 끝나지 않는 future 를 기다리지 않아야 합니다.
+        for (int i = 0; i < 2; i++) {
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> weatherClient.getWeatherAsync("01-01").get(2, TimeUnit.SECONDS));
+            assertInstanceOf(ServerException.class, exception.getCause());
+        }
+        assertThrows(ServerException.class, () -> weatherClient.getWeather("01-01"));
+        assertEquals(0, requestCount.get());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private WeatherClient createClient(int failureThreshold) {
+        return createClient("http://localhost:" + server.getAddress().getPort(), failureThreshold);
+    }
+
+    private WeatherClient createClient(String baseUrl, int failureThreshold) {
+        return new WeatherClient(baseUrl, 500, 500, failureThreshold, 60_000);
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherFeedParserTest {
+
+    private final WeatherFeedParser weatherFeedParser = new WeatherFeedParser(new JsonFactory());
+
+    @Test
+    void 날짜별_날씨를_읽는다() throws IOException {
+        // when
+        Map<String, String> weathers = parse("[{\"date\":\"01-01\",\"weather\":\"Sunny\"},{\"weather\":\"Rainy\",\"date\":\"01-02\"}]");
+
+        // then
+        assertEquals(Map.of("01-01", "Sunny", "01-02", "Rainy"), weathers);
+    }
+
+    @Test
+    void 같은_날짜가_여러_번_나오면_처음_값을_사용한다() throws IOException {
+        // when
+        Map<String, String> weathers = parse("[{\"date\":\"01-01\",\"weather\":\"Sunny\"},{\"date\":\"01-01\",\"weather\":\"Rainy\"}]");
+
+        // then
+        assertEquals(Map.of("01-01", "Sunny"), weathers);
+    }
+
+    @Test
+    void 필드가_빠진_항목은_건너뛰고_모르는_필드는_무시한다() throws IOException {
+        // when
+        Map<String, String> weathers = parse("[{\"date\":\"01-01\"},{\"weather\":\"Rainy\"}," +
+                "{\"date\":\"01-03\",\"extra\":{\"nested\":[1,2]},\"weather\":\"Snowy\"}]");
+
+        // then
+        assertEquals(Map.of("01-03", "Snowy"), weathers);
+    }
+
+    @Test
+    void 빈_배열은_빈_결과를_반환한다() throws IOException {
+        assertTrue(parse("[]").isEmpty());
+    }
+
+    @Test
+    void 배열이_아니면_ServerException_을_던진다() {
+        // when
+        ServerException exception = assertThrows(ServerException.class, () -> parse("{\"date\":\"01-01\"}"));
+
+        // then
+        assertEquals("날씨 데이터 형식이 올바르지 않습니다.", exception.getMessage());
+    }
+
+    @Test
+    void 잘린_JSON_은_파싱_예외를_던진다() {
+        assertThrows(JsonProcessingException.class, () -> parse("[{\"date\":\"01-01\",\"weather\":"));
+    }
+
+    private Map<String, String> parse(String json) throws IOException {
+        InputStream inputStream = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+        return weatherFeedParser.parseAll(inputStream);
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.SignatureException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    @Test
+    void 발급한_토큰은_jjwt_파서로_검증된다() {
+        // given
+        JwtUtil jwtUtil = createJwtUtil("test-secret-key-test-secret-key-test-secret-key");
+
+        // when
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "a\"b@email.com", UserRole.ADMIN));
+        Claims claims = jwtUtil.extractClaims(token);
+
+        // then
+        assertEquals("1", claims.getSubject());
+        assertEquals("a\"b@email.com", claims.get("email", String.class));
+        assertEquals("ADMIN", claims.get("userRole", String.class));
+        assertEquals(60 * 60 * 1000L, claims.getExpiration().getTime() - claims.getIssuedAt().getTime());
+        assertTrue(claims.getExpiration().getTime() > System.currentTimeMillis());
+    }
+
+    @Test
+    void 다른_키로_서명한_토큰은_거절된다() {
+        // given
+        JwtUtil issuer = createJwtUtil("other-secret-key-other-secret-key-other-secret");
+        JwtUtil verifier = createJwtUtil("test-secret-key-test-secret-key-test-secret-key");
+        String token = issuer.substringToken(issuer.createToken(1L, "email@email.com", UserRole.USER));
+
+        // when & then
+        assertThrows(SignatureException.class, () -> verifier.extractClaims(token));
+    }
+
+    private static JwtUtil createJwtUtil(String secret) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(secret.getBytes()));
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.expert.config;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.GaugeResponse;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.common.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class MetricsConfigTest {
+
+    @Test
+    void 해싱_작업이_거절되면_노출된_거절_게이지가_증가한다() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(String rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword;
+            }
+        };
+        PasswordHashExecutor passwordHashExecutor = new PasswordHashExecutor(blockingEncoder, 1, 1);
+        MetricsRegistry metricsRegistry = new MetricsRegistry();
+        new MetricsConfig(metricsRegistry, mock(WeatherClient.class), passwordHashExecutor).registerHotSpots();
+        assertEquals(0L, gauges(metricsRegistry).get("password PasswordHashExecutor.rejected"));
+
+        CompletableFuture<String> running = passwordHashExecutor.encode("running");
+        started.await();
+        CompletableFuture<String> queued = passwordHashExecutor.encode("queued");
+
+        // when
+        assertThrows(ServiceUnavailableException.class, () -> passwordHashExecutor.encode("rejected"));
+
+        // then
+        Map<String, Object> gauges = gauges(metricsRegistry);
+        assertEquals(1L, gauges.get("password PasswordHashExecutor.rejected"));
+        assertEquals(1, gauges.get("password PasswordHashExecutor.queue"));
+        assertEquals(1, gauges.get("password PasswordHashExecutor.active"));
+
+        release.countDown();
+        running.join();
+        queued.join();
+        passwordHashExecutor.destroy();
+    }
+
+    private Map<String, Object> gauges(MetricsRegistry metricsRegistry) {
+        return metricsRegistry.gaugeSnapshot().stream()
+                .filter(gauge -> gauge.getName().startsWith("password "))
+                .collect(Collectors.toMap(GaugeResponse::getName, GaugeResponse::getValue));
+    }
+}
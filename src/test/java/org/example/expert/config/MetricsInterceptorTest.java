@@ -0,0 +1,82 @@
+package org.example.expert.config;
+
+import jakarta.servlet.DispatcherType;
+import org.example.expert.domain.common.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MetricsInterceptorTest {
+
+    private final MetricsRegistry metricsRegistry = new MetricsRegistry();
+    private final MetricsInterceptor metricsInterceptor = new MetricsInterceptor(metricsRegistry);
+
+    @Test
+    void 컨트롤러_메서드와_상태_코드별로_기록한다() throws Exception {
+        // given
+        HandlerMethod handler = handler();
+
+        // when
+        handle(handler, 200, null);
+        handle(handler, 200, null);
+        handle(handler, 400, null);
+
+        // then
+        assertEquals(2, count("http SampleController.get 200"));
+        assertEquals(1, count("http SampleController.get 400"));
+    }
+
+    @Test
+    void 처리되지_않은_예외는_500_으로_기록한다() throws Exception {
+        // when
+        handle(handler(), 200, new IllegalStateException());
+
+        // then
+        assertEquals(1, count("http SampleController.get 500"));
+    }
+
+    @Test
+    void 비동기_디스패치는_시작_시각을_덮어쓰지_않는다() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HandlerMethod handler = handler();
+        metricsInterceptor.preHandle(request, response, handler);
+        Thread.sleep(20);
+
+        // when
+        request.setDispatcherType(DispatcherType.ASYNC);
+        metricsInterceptor.preHandle(request, response, handler);
+        metricsInterceptor.afterCompletion(request, response, handler, null);
+
+        // then
+        assertEquals(1, count("http SampleController.get 200"));
+        assertEquals(true, metricsRegistry.timer("http SampleController.get 200").getHistogram().getMaxNanos() >= 20_000_000L);
+    }
+
+    private void handle(HandlerMethod handler, int status, Exception ex) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        metricsInterceptor.preHandle(request, response, handler);
+        response.setStatus(status);
+        metricsInterceptor.afterCompletion(request, response, handler, ex);
+    }
+
+    private long count(String name) {
+        return metricsRegistry.timer(name).getHistogram().getCount();
+    }
+
+    private static HandlerMethod handler() throws NoSuchMethodException {
+        return new HandlerMethod(new SampleController(), SampleController.class.getMethod("get"));
+    }
+
+    static class SampleController {
+
+        public String get() {
+            return "ok";
+        }
+    }
+}
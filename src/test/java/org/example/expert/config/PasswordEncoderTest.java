@@ -5,6 +5,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(SpringExtension.class)
@@ -25,4 +26,15 @@ class PasswordEncoderTest {
         // then
         assertTrue(matches);
     }
+
+    @Test
+    void 저장된_해시의_cost가_현재_cost와_다르면_재해싱이_필요하다() {
+        // given
+        String currentCostPassword = passwordEncoder.encode("testPassword");
+        String higherCostPassword = passwordEncoder.encode("testPassword", passwordEncoder.getCost() + 1);
+
+        // when & then
+        assertFalse(passwordEncoder.needsRehash(currentCostPassword));
+        assertTrue(passwordEncoder.needsRehash(higherCostPassword));
+    }
 }
@@ -0,0 +1,66 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashExecutorTest {
+
+    @Test
+    void 전용_스레드에서_해싱하고_지연시간을_기록한다() {
+        // given
+        PasswordHashExecutor passwordHashExecutor = new PasswordHashExecutor(new PasswordEncoder(), 1, 1);
+
+        // when
+        String encodedPassword = passwordHashExecutor.encode("Test1234").join();
+        boolean matched = passwordHashExecutor.matches("Test1234", encodedPassword).join();
+
+        // then
+        assertTrue(matched);
+        assertEquals(1, passwordHashExecutor.getEncodeLatency().getCount());
+        assertEquals(1, passwordHashExecutor.getMatchLatency().getCount());
+        passwordHashExecutor.destroy();
+    }
+
+    @Test
+    void 큐가_가득_차면_ServiceUnavailableException_발생() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(String rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword;
+            }
+        };
+        PasswordHashExecutor passwordHashExecutor = new PasswordHashExecutor(blockingEncoder, 1, 1);
+
+        CompletableFuture<String> running = passwordHashExecutor.encode("running");
+        started.await();
+        CompletableFuture<String> queued = passwordHashExecutor.encode("queued");
+
+        // when
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                () -> passwordHashExecutor.encode("rejected"));
+
+        // then
+        assertNotNull(exception.getMessage());
+        assertEquals(1, passwordHashExecutor.getQueueDepth());
+        assertEquals(1, passwordHashExecutor.getRejectedCount());
+
+        release.countDown();
+        assertEquals("running", running.join());
+        assertEquals("queued", queued.join());
+        passwordHashExecutor.destroy();
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    @Test
+    void 검증된_토큰은_만료_전까지_캐시에서_반환된다() {
+        // given
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(10);
+        VerifiedToken verifiedToken = new VerifiedToken(1L, "email@email.com", UserRole.USER, 2_000L);
+        verifiedTokenCache.put("token", verifiedToken, 1_000L);
+
+        // when
+        VerifiedToken cached = verifiedTokenCache.get("token", 1_999L);
+
+        // then
+        assertSame(verifiedToken, cached);
+        assertEquals(1, verifiedTokenCache.getHitCount());
+    }
+
+    @Test
+    void 만료된_토큰은_캐시에서_제거된다() {
+        // given
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(10);
+        verifiedTokenCache.put("token", new VerifiedToken(1L, "email@email.com", UserRole.USER, 2_000L), 1_000L);
+
+        // when
+        VerifiedToken cached = verifiedTokenCache.get("token", 2_000L);
+
+        // then
+        assertNull(cached);
+        assertEquals(0, verifiedTokenCache.size());
+    }
+
+    @Test
+    void 최대_크기를_넘지_않는다() {
+        // given
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(2);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            verifiedTokenCache.put("token" + i, new VerifiedToken((long) i, "email@email.com", UserRole.USER, 2_000L), 1_000L);
+        }
+
+        // then
+        assertEquals(2, verifiedTokenCache.size());
+    }
+}
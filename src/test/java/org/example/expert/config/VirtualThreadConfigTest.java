@@ -0,0 +1,30 @@
+package org.example.expert.config;
+
+import org.example.expert.ExpertApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.core.NestedExceptionUtils;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Java 21 이상에서 요청이 가상 스레드에서 처리되는지는 VirtualThreadIntegrationTest 에서 확인합니다.
+ */
+class VirtualThreadConfigTest {
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void Java_21_미만에서_virtual_프로필을_켜면_기동이_멈춘다() {
+        // when
+        Exception exception = assertThrows(Exception.class, () -> new SpringApplicationBuilder(ExpertApplication.class)
+                .profiles("virtual")
+                .run("--server.port=0")
+                .close());
+
+        // then
+        assertInstanceOf(IllegalStateException.class, NestedExceptionUtils.getMostSpecificCause(exception));
+    }
+}
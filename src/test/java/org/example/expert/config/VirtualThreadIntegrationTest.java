@@ -0,0 +1,52 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * virtual 프로필로 실제 서버를 띄워 Tomcat 요청 처리 스레드가 가상 스레드인지 확인합니다.
+ * Java 17 로 컴파일하므로 Thread.isVirtual 은 리플렉션으로 호출합니다.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@ActiveProfiles("virtual")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(VirtualThreadIntegrationTest.ProbeConfig.class)
+class VirtualThreadIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void virtual_프로필에서는_요청이_가상_스레드에서_처리된다() {
+        // when
+        Boolean virtual = restTemplate.getForObject("/auth/virtual-thread-probe", Boolean.class);
+
+        // then
+        assertEquals(Boolean.TRUE, virtual);
+    }
+
+    @TestConfiguration
+    static class ProbeConfig {
+
+        // JwtFilter 가 /auth 경로는 토큰 없이 통과시키므로 그 아래에 둡니다.
+        @RestController
+        static class VirtualThreadProbeController {
+
+            @GetMapping("/auth/virtual-thread-probe")
+            public boolean isVirtual() throws ReflectiveOperationException {
+                return (boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread());
+            }
+        }
+    }
+}
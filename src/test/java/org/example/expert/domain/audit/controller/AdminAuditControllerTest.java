@@ -0,0 +1,56 @@
+package org.example.expert.domain.audit.controller;
+
+import org.example.expert.domain.audit.dto.response.AdminAuditCursorResponse;
+import org.example.expert.domain.audit.dto.response.AdminAuditResponse;
+import org.example.expert.domain.audit.dto.response.AdminAuditStatsResponse;
+import org.example.expert.domain.audit.service.AdminAuditRecorder;
+import org.example.expert.domain.audit.service.AdminAuditService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AdminAuditController.class)
+class AdminAuditControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AdminAuditService adminAuditService;
+
+    @MockBean
+    private AdminAuditRecorder adminAuditRecorder;
+
+    @Test
+    void 감사_기록_조회() throws Exception {
+        AdminAuditResponse audit = new AdminAuditResponse(10L, 1L, "CommentAdminService.deleteComment(..)",
+                "/admin/comments/1", LocalDateTime.now(), true);
+        given(adminAuditService.getAudits(1L, 20L, 1)).willReturn(new AdminAuditCursorResponse(List.of(audit), 10L, true));
+
+        mockMvc.perform(get("/admin/audits").param("userId", "1").param("cursor", "20").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contents[0].action").value("CommentAdminService.deleteComment(..)"))
+                .andExpect(jsonPath("$.nextCursor").value(10))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    void 감사_버퍼_상태_조회() throws Exception {
+        given(adminAuditRecorder.getStats()).willReturn(new AdminAuditStatsResponse("DROP_NEWEST", 8192, 3, 10, 1, 6, 0));
+
+        mockMvc.perform(get("/admin/audits/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.overflowPolicy").value("DROP_NEWEST"))
+                .andExpect(jsonPath("$.droppedCount").value(1));
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.expert.domain.audit.service;
+
+import org.example.expert.domain.audit.dto.response.AdminAuditCursorResponse;
+import org.example.expert.domain.audit.dto.response.AdminAuditResponse;
+import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "admin.audit.flush-interval-ms=3600000")
+class AdminAuditIntegrationTest {
+
+    @Autowired
+    private CommentAdminService commentAdminService;
+
+    @Autowired
+    private AdminAuditRecorder adminAuditRecorder;
+
+    @Autowired
+    private AdminAuditService adminAuditService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User admin;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        admin = userRepository.save(new User("admin@email.com", "password", UserRole.ADMIN));
+        todo = todoRepository.save(new Todo("title", "contents", "Sunny", admin));
+        adminAuditRecorder.flush();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        jdbcTemplate.update("DELETE FROM admin_audit");
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM users");
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void 관리자_API_호출은_버퍼에_쌓였다가_한_번에_저장된다() {
+        // given
+        bindRequest("/admin/todos/" + todo.getId() + "/comments");
+        commentAdminService.purgeComments(todo.getId());
+        assertThrows(InvalidRequestException.class, () -> commentAdminService.purgeComments(todo.getId() + 1000));
+        assertEquals(0, count());
+
+        // when
+        int written = adminAuditRecorder.flush();
+
+        // then
+        AdminAuditCursorResponse response = adminAuditService.getAudits(admin.getId(), null, null);
+        assertEquals(2, written);
+        assertEquals(2, response.getContents().size());
+
+        AdminAuditResponse latest = response.getContents().get(0);
+        AdminAuditResponse first = response.getContents().get(1);
+        assertTrue(latest.getId() > first.getId());
+        assertFalse(latest.isSuccess());
+        assertTrue(first.isSuccess());
+        assertEquals("CommentAdminService.purgeComments(..)", first.getAction());
+        assertEquals("/admin/todos/" + todo.getId() + "/comments", first.getRequestUri());
+        assertNotNull(first.getOccurredAt());
+    }
+
+    @Test
+    void 감사_기록은_최신순_커서로_조회한다() {
+        // given
+        bindRequest("/admin/todos/" + todo.getId() + "/comments");
+        for (int i = 0; i < 5; i++) {
+            commentAdminService.purgeComments(todo.getId());
+        }
+        adminAuditRecorder.flush();
+
+        // when
+        AdminAuditCursorResponse firstPage = adminAuditService.getAudits(null, null, 3);
+        AdminAuditCursorResponse secondPage = adminAuditService.getAudits(null, firstPage.getNextCursor(), 3);
+
+        // then
+        assertTrue(firstPage.isHasNext());
+        assertEquals(3, firstPage.getContents().size());
+        assertFalse(secondPage.isHasNext());
+        assertEquals(2, secondPage.getContents().size());
+        assertTrue(secondPage.getContents().get(0).getId() < firstPage.getNextCursor());
+        assertTrue(adminAuditService.getAudits(admin.getId() + 1000, null, null).getContents().isEmpty());
+    }
+
+    private void bindRequest(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", uri);
+        request.setAttribute("userId", admin.getId());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM admin_audit", Integer.class);
+    }
+}
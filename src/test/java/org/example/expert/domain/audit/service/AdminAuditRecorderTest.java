@@ -0,0 +1,97 @@
+package org.example.expert.domain.audit.service;
+
+import org.example.expert.domain.audit.dto.response.AdminAuditStatsResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AdminAuditRecorderTest {
+
+    @Mock
+    private AdminAuditWriter adminAuditWriter;
+
+    @Test
+    void 버퍼가_가득_차면_DROP_NEWEST_는_새_기록을_버린다() {
+        // given
+        AdminAuditRecorder recorder = new AdminAuditRecorder(adminAuditWriter, 2, AuditOverflowPolicy.DROP_NEWEST, 10);
+
+        // when
+        recordUsers(recorder, 1L, 2L, 3L);
+        recorder.flush();
+
+        // then
+        assertEquals(List.of(1L, 2L), savedUserIds());
+        assertEquals(1, recorder.getStats().getDroppedCount());
+    }
+
+    @Test
+    void 버퍼가_가득_차면_DROP_OLDEST_는_가장_오래된_기록을_버린다() {
+        // given
+        AdminAuditRecorder recorder = new AdminAuditRecorder(adminAuditWriter, 2, AuditOverflowPolicy.DROP_OLDEST, 10);
+
+        // when
+        recordUsers(recorder, 1L, 2L, 3L);
+        recorder.flush();
+
+        // then
+        assertEquals(List.of(2L, 3L), savedUserIds());
+        assertEquals(1, recorder.getStats().getDroppedCount());
+    }
+
+    @Test
+    void 기록은_batch_size_단위로_나눠_저장한다() {
+        // given
+        AdminAuditRecorder recorder = new AdminAuditRecorder(adminAuditWriter, 16, AuditOverflowPolicy.DROP_NEWEST, 2);
+        recordUsers(recorder, 1L, 2L, 3L, 4L, 5L);
+
+        // when
+        int written = recorder.flush();
+
+        // then
+        assertEquals(5, written);
+        verify(adminAuditWriter, times(3)).saveBatch(anyList());
+        assertEquals(0, recorder.getStats().getPending());
+    }
+
+    @Test
+    void 저장에_실패한_묶음은_실패_건수로_남기고_버퍼를_비운다() {
+        // given
+        AdminAuditRecorder recorder = new AdminAuditRecorder(adminAuditWriter, 16, AuditOverflowPolicy.DROP_NEWEST, 10);
+        willThrow(new IllegalStateException("db down")).given(adminAuditWriter).saveBatch(anyList());
+        recordUsers(recorder, 1L, 2L);
+
+        // when
+        int written = recorder.flush();
+
+        // then
+        AdminAuditStatsResponse stats = recorder.getStats();
+        assertEquals(0, written);
+        assertEquals(2, stats.getFailedCount());
+        assertEquals(0, stats.getPending());
+    }
+
+    private void recordUsers(AdminAuditRecorder recorder, Long... userIds) {
+        for (Long userId : userIds) {
+            recorder.record(userId, "CommentAdminService.deleteComment(..)", "/admin/comments/1", true);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> savedUserIds() {
+        ArgumentCaptor<List<AdminAuditRecord>> captor = ArgumentCaptor.forClass(List.class);
+        verify(adminAuditWriter).saveBatch(captor.capture());
+        return new ArrayList<>(captor.getValue().stream().map(AdminAuditRecord::getUserId).toList());
+    }
+}
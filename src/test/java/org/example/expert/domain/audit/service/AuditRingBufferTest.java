@@ -0,0 +1,78 @@
+package org.example.expert.domain.audit.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditRingBufferTest {
+
+    @Test
+    void 용량은_2의_거듭제곱으로_올린다() {
+        assertEquals(8, new AuditRingBuffer(5).capacity());
+        assertEquals(8, new AuditRingBuffer(8).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new AuditRingBuffer(1));
+    }
+
+    @Test
+    void 넣은_순서대로_꺼내고_가득_차면_바로_거절한다() {
+        // given
+        AuditRingBuffer buffer = new AuditRingBuffer(4);
+        for (long i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(record(i)));
+        }
+
+        // when
+        boolean overflowed = buffer.offer(record(4));
+        List<AdminAuditRecord> drained = new ArrayList<>();
+        buffer.drainTo(drained, 10);
+
+        // then
+        assertFalse(overflowed);
+        assertEquals(List.of(0L, 1L, 2L, 3L), drained.stream().map(AdminAuditRecord::getUserId).toList());
+        assertNull(buffer.poll());
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void 여러_스레드가_동시에_넣어도_기록이_유실되거나_중복되지_않는다() {
+        // given
+        int producers = 4;
+        int perProducer = 5_000;
+        AuditRingBuffer buffer = new AuditRingBuffer(256);
+        Set<Long> consumed = new HashSet<>();
+
+        // when : 버퍼보다 많은 기록을 넣으므로 가득 차면 소비될 때까지 다시 시도합니다.
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * perProducer;
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (long i = base; i < base + perProducer; i++) {
+                    while (!buffer.offer(record(i))) {
+                        Thread.onSpinWait();
+                    }
+                }
+            }));
+        }
+        while (consumed.size() < producers * perProducer) {
+            AdminAuditRecord record = buffer.poll();
+            if (record != null) {
+                assertTrue(consumed.add(record.getUserId()));
+            }
+        }
+        futures.forEach(CompletableFuture::join);
+
+        // then
+        assertEquals(producers * perProducer, consumed.size());
+        assertNull(buffer.poll());
+    }
+
+    private static AdminAuditRecord record(long userId) {
+        return new AdminAuditRecord(userId, "action", "/admin", 0L, true);
+    }
+}
@@ -12,10 +12,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.util.concurrent.CompletableFuture;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -36,12 +40,14 @@ class AuthControllerTest {
         // given
         SignupRequest request = new SignupRequest("email@emial.com", "Test1234", "admin");
         SignupResponse response = new SignupResponse("test");
-        given(authService.signup(any(SignupRequest.class))).willReturn(response);
+        given(authService.signup(any(SignupRequest.class))).willReturn(CompletableFuture.completedFuture(response));
 
         // when
-        ResultActions resultActions = mockMvc.perform(post("/auth/signup")
+        MvcResult mvcResult = mockMvc.perform(post("/auth/signup")
                 .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(request)));
+                .content(objectMapper.writeValueAsString(request)))
+                .andReturn();
+        ResultActions resultActions = mockMvc.perform(asyncDispatch(mvcResult));
 
         // then
         resultActions.andExpect(status().isOk());
@@ -52,12 +58,14 @@ class AuthControllerTest {
         // given
         SigninRequest request = new SigninRequest("email@emial.com", "Test1234");
         SigninResponse response = new SigninResponse("test-token");
-        given(authService.signin(any(SigninRequest.class))).willReturn(response);
+        given(authService.signin(any(SigninRequest.class))).willReturn(CompletableFuture.completedFuture(response));
 
         // when
-        ResultActions resultActions = mockMvc.perform(post("/auth/signin")
+        MvcResult mvcResult = mockMvc.perform(post("/auth/signin")
                 .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(request)));
+                .content(objectMapper.writeValueAsString(request)))
+                .andReturn();
+        ResultActions resultActions = mockMvc.perform(asyncDispatch(mvcResult));
 
         // then
         resultActions.andExpect(status().isOk());
@@ -0,0 +1,101 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PasswordHashExecutor;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * 로그인 재해싱이 진행되는 사이 비밀번호가 변경되면, 재해싱 결과가 새 비밀번호를 덮어쓰지 않는지 확인합니다.
+ */
+@SpringBootTest
+class AuthRehashIntegrationTest {
+
+    private static final String OLD_PASSWORD = "Test12345";
+    private static final String NEW_PASSWORD = "Changed12345";
+
+    @SpyBean
+    private PasswordHashExecutor passwordHashExecutor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private ThreadPoolTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users");
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void 재해싱_중_비밀번호가_변경되면_재해싱_결과로_덮어쓰지_않는다() throws InterruptedException {
+        // given
+        String oldHash = passwordEncoder.encode(OLD_PASSWORD);
+        User user = userRepository.save(new User("rehash@email.com", oldHash, UserRole.USER));
+
+        // 재해싱 대상으로 만들고, 재해싱 결과는 테스트가 원하는 시점에 내보냅니다.
+        CompletableFuture<String> rehashed = new CompletableFuture<>();
+        doReturn(true).when(passwordHashExecutor).needsRehash(oldHash);
+        doReturn(rehashed).when(passwordHashExecutor).encode(OLD_PASSWORD);
+
+        SigninRequest signinRequest = new SigninRequest();
+        ReflectionTestUtils.setField(signinRequest, "email", user.getEmail());
+        ReflectionTestUtils.setField(signinRequest, "password", OLD_PASSWORD);
+        authService.signin(signinRequest).join();
+
+        // when : 재해싱이 끝나기 전에 비밀번호를 변경합니다.
+        userService.changePassword(user.getId(), new UserChangePasswordRequest(OLD_PASSWORD, NEW_PASSWORD));
+        rehashed.complete(passwordEncoder.encode(OLD_PASSWORD));
+        awaitTaskExecutorIdle();
+
+        // then
+        String storedHash = userRepository.findById(user.getId()).orElseThrow().getPassword();
+        assertTrue(passwordEncoder.matches(NEW_PASSWORD, storedHash));
+    }
+
+    // 재해싱 저장은 해싱 결과가 나오면 applicationTaskExecutor 에 들어가므로, 그 실행기가 빌 때까지 기다립니다.
+    private void awaitTaskExecutorIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (applicationTaskExecutor.getActiveCount() > 0 || applicationTaskExecutor.getQueueSize() > 0) {
+            assertTrue(System.currentTimeMillis() < deadline, "재해싱 저장이 끝나지 않았습니다.");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package org.example.expert.domain.auth.service;
 
 import org.example.expert.config.JwtUtil;
-import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PasswordHashExecutor;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
@@ -11,18 +11,24 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
@@ -31,14 +37,25 @@ class AuthServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashExecutor passwordHashExecutor;
 
     @Mock
     private JwtUtil jwtUtil;
 
-    @InjectMocks
+    private final List<Runnable> offloadedTasks = new ArrayList<>();
+
     private AuthService authService;
 
+    @BeforeEach
+    void setUp() {
+        // 해싱 이후 작업이 넘어가는 taskExecutor 는 기록만 하고 호출 스레드에서 바로 실행합니다.
+        Executor taskExecutor = task -> {
+            offloadedTasks.add(task);
+            task.run();
+        };
+        authService = new AuthService(userRepository, passwordHashExecutor, jwtUtil, taskExecutor);
+    }
+
     @Test
     void 회원가입() {
         // given
@@ -47,21 +64,22 @@ class AuthServiceTest {
         ReflectionTestUtils.setField(signupRequest, "password", "1234");
         ReflectionTestUtils.setField(signupRequest, "userRole", "admin");
 
-        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
+        String encodedPassword = "encoded-password";
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
         User saveUser = new User(signupRequest.getEmail(), encodedPassword, userRole);
         ReflectionTestUtils.setField(saveUser, "id", 1L);
         String testToken = "test-token";
 
+        given(passwordHashExecutor.encode(anyString())).willReturn(CompletableFuture.completedFuture(encodedPassword));
         given(userRepository.save(any(User.class))).willReturn(saveUser);
         given(jwtUtil.createToken(anyLong(), anyString(), any(UserRole.class))).willReturn(testToken);
 
         // when
-        SignupResponse response = authService.signup(signupRequest);
+        SignupResponse response = authService.signup(signupRequest).join();
 
         // then
         assertNotNull(response);
-
+        assertEquals(1, offloadedTasks.size());
     }
 
     @Test
@@ -110,15 +128,41 @@ class AuthServiceTest {
         ReflectionTestUtils.setField(user, "id", 1L);
 
         given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
-        given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
+        given(passwordHashExecutor.matches(anyString(), anyString())).willReturn(CompletableFuture.completedFuture(true));
 
         // when
-        SigninResponse response = authService.signin(signinRequest);
+        SigninResponse response = authService.signin(signinRequest).join();
 
         // then
         assertNotNull(response);
     }
 
+    @Test
+    void 로그인시_저장된_해시의_cost가_다르면_재해싱한다() {
+        // given
+        SigninRequest signinRequest = new SigninRequest();
+        ReflectionTestUtils.setField(signinRequest, "email", "email@email.com");
+        ReflectionTestUtils.setField(signinRequest, "password", "test");
+
+        User user = new User();
+        ReflectionTestUtils.setField(user, "email", signinRequest.getEmail());
+        ReflectionTestUtils.setField(user, "password", "old-cost-hash");
+        ReflectionTestUtils.setField(user, "userRole", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+        given(passwordHashExecutor.matches(anyString(), anyString())).willReturn(CompletableFuture.completedFuture(true));
+        given(passwordHashExecutor.needsRehash("old-cost-hash")).willReturn(true);
+        given(passwordHashExecutor.encode("test")).willReturn(CompletableFuture.completedFuture("new-cost-hash"));
+
+        // when
+        authService.signin(signinRequest).join();
+
+        // then
+        verify(userRepository).updatePassword(1L, "old-cost-hash", "new-cost-hash");
+        assertEquals(1, offloadedTasks.size());
+    }
+
     @Test
     void 로그인시_가입되지_않은_유저() {
         // given
@@ -148,12 +192,13 @@ class AuthServiceTest {
         ReflectionTestUtils.setField(user, "id", 1L);
 
         given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
-        given(passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())).willReturn(false);
+        given(passwordHashExecutor.matches(signinRequest.getPassword(), user.getPassword())).willReturn(CompletableFuture.completedFuture(false));
 
         // when
-        AuthException exception = assertThrows(AuthException.class, () -> authService.signin(signinRequest));
+        CompletionException exception = assertThrows(CompletionException.class, () -> authService.signin(signinRequest).join());
 
         // then
-        assertEquals("잘못된 비밀번호입니다.", exception.getMessage());
+        assertInstanceOf(AuthException.class, exception.getCause());
+        assertEquals("잘못된 비밀번호입니다.", exception.getCause().getMessage());
     }
 }
\ No newline at end of file
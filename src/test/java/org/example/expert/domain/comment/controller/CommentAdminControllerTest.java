@@ -8,6 +8,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -30,4 +31,14 @@ class CommentAdminControllerTest {
         resultActions.andExpect(status().isOk());
     }
 
+    @Test
+    void 일정_댓글_전체_삭제() throws Exception {
+        long todoId = 1L;
+
+        ResultActions resultActions = mockMvc.perform(delete("/admin/todos/{todoId}/comments", todoId));
+
+        resultActions.andExpect(status().isOk());
+        verify(commentAdminService).purgeComments(todoId);
+    }
+
 }
\ No newline at end of file
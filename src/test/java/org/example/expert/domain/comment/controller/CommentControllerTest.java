@@ -5,6 +5,7 @@ import org.example.expert.config.AuthUserArgumentResolver;
 import org.example.expert.config.GlobalExceptionHandler;
 import org.example.expert.domain.comment.controller.CommentController;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentCursorResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
@@ -30,6 +31,8 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(CommentController.class)
@@ -80,13 +83,47 @@ class CommentControllerTest {
     void 댓글_가져오기() throws Exception {
         // given
         long todoId = 1L;
-        List<CommentResponse> responseList = new ArrayList<>();
-        given(commentService.getComments(anyLong())).willReturn(responseList);
+        CommentCursorResponse response = new CommentCursorResponse(new ArrayList<>(), null, false);
+        given(commentService.getComments(anyLong())).willReturn(response);
 
         // when
         ResultActions resultActions = mockMvc.perform((get("/todos/{todoId}/comments", todoId)));
 
         // then
-        resultActions.andExpect(status().isOk());
+        resultActions.andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    void 댓글_목록이_잘리면_다음_커서를_헤더로_반환한다() throws Exception {
+        // given
+        long todoId = 1L;
+        List<CommentResponse> contents = List.of(new CommentResponse(7L, "contents", 1L, "a@a.com"));
+        given(commentService.getComments(todoId)).willReturn(new CommentCursorResponse(contents, 7L, true));
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/todos/{todoId}/comments", todoId));
+
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "7"))
+                .andExpect(jsonPath("$[0].id").value(7L));
+    }
+
+    @Test
+    void 댓글_커서로_가져오기() throws Exception {
+        // given
+        long todoId = 1L;
+        CommentCursorResponse response = new CommentCursorResponse(new ArrayList<>(), null, false);
+        given(commentService.getCommentsByCursor(todoId, 10L, 20)).willReturn(response);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/todos/{todoId}/comments/cursor", todoId)
+                .param("cursor", "10")
+                .param("size", "20"));
+
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false));
     }
 }
\ No newline at end of file
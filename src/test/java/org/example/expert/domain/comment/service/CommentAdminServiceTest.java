@@ -3,6 +3,7 @@ package org.example.expert.domain.comment.service;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -33,6 +34,9 @@ class CommentAdminServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TodoRepository todoRepository;
+
     @InjectMocks
     private CommentAdminService commentAdminService;
 
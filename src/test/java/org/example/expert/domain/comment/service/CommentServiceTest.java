@@ -1,22 +1,24 @@
 package org.example.expert.domain.comment.service;
 
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentCursorResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
-import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
@@ -29,6 +31,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -37,9 +41,16 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
-    @InjectMocks
+    @Mock
+    private ManagerRepository managerRepository;
+
     private CommentService commentService;
 
+    @BeforeEach
+    void setUp() {
+        commentService = new CommentService(todoRepository, commentRepository, managerRepository, 2, 3, 5);
+    }
+
     @Test
     public void comment_등록_중_할일을_찾지_못해_에러가_발생한다() {
         // given
@@ -66,16 +77,11 @@ class CommentServiceTest {
         AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
         User user = User.fromAuthUser(authUser);
         Todo todo = new Todo("title", "title", "contents", user);
+        ReflectionTestUtils.setField(todo, "id", todoId);
         Comment comment = new Comment(request.getContents(), user, todo);
 
-        List<Manager> managers = new ArrayList<>();
-        Manager manager = new Manager(user, todo);
-        ReflectionTestUtils.setField(manager, "id", 1L);
-
-        managers.add(manager);
-        ReflectionTestUtils.setField(todo, "managers", managers);
-
         given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+        given(managerRepository.existsByTodoIdAndUserId(todoId, authUser.getId())).willReturn(true);
         given(commentRepository.save(any())).willReturn(comment);
 
         // when
@@ -83,27 +89,110 @@ class CommentServiceTest {
 
         // then
         assertNotNull(result);
+        verify(todoRepository).addCommentCount(todoId, 1);
+    }
+
+    @Test
+    void 일정의_담당자가_아니면_comment를_등록할_수_없다() {
+        // given
+        long todoId = 1;
+        CommentSaveRequest request = new CommentSaveRequest("contents");
+        AuthUser authUser = new AuthUser(2L, "email", UserRole.USER);
+        User owner = new User("owner@email.com", "1234", UserRole.USER);
+        ReflectionTestUtils.setField(owner, "id", 1L);
+        Todo todo = new Todo("title", "title", "contents", owner);
+        ReflectionTestUtils.setField(todo, "id", todoId);
+
+        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+        given(managerRepository.existsByTodoIdAndUserId(todoId, 2L)).willReturn(false);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentService.saveComment(authUser, todoId, request));
+
+        // then
+        assertEquals("일정의 담당자만 댓글을 작성할 수 있습니다.", exception.getMessage());
+        verify(commentRepository, never()).save(any());
     }
 
     @Test
     void comment_리스트_가져오기() {
         // given
         long todoId = 1L;
-        User user = new User("email@nave.com", "1234", UserRole.USER);
-        ReflectionTestUtils.setField(user, "id", 1L);
+        List<CommentResponse> mockCommentList = Arrays.asList(commentResponse(1L), commentResponse(2L));
+        given(commentRepository.findFirstCommentResponses(todoId, PageRequest.of(0, 6))).willReturn(mockCommentList);
 
-        Todo todo = new Todo("title", "title", "contents", user);
-        ReflectionTestUtils.setField(todo, "id", 1L);
+        // when
+        CommentCursorResponse response = commentService.getComments(todoId);
+
+        // then
+        assertEquals(2, response.getContents().size());
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    void comment_리스트가_최대_건수를_넘으면_잘린_위치의_다음_커서를_반환한다() {
+        // given
+        long todoId = 1L;
+        List<CommentResponse> mockCommentList = new ArrayList<>();
+        for (long id = 1; id <= 6; id++) {
+            mockCommentList.add(commentResponse(id));
+        }
+        given(commentRepository.findFirstCommentResponses(todoId, PageRequest.of(0, 6))).willReturn(mockCommentList);
+
+        // when
+        CommentCursorResponse response = commentService.getComments(todoId);
+
+        // then
+        assertEquals(5, response.getContents().size());
+        assertTrue(response.isHasNext());
+        assertEquals(5L, response.getNextCursor());
+    }
+
+    @Test
+    void comment_커서_첫_페이지는_기본_크기만큼_가져오고_다음_커서를_반환한다() {
+        // given
+        long todoId = 1L;
+        given(commentRepository.findFirstCommentResponses(todoId, PageRequest.of(0, 3)))
+                .willReturn(Arrays.asList(commentResponse(1L), commentResponse(2L), commentResponse(3L)));
+
+        // when
+        CommentCursorResponse response = commentService.getCommentsByCursor(todoId, null, null);
+
+        // then
+        assertEquals(2, response.getContents().size());
+        assertTrue(response.isHasNext());
+        assertEquals(2L, response.getNextCursor());
+    }
 
-        Comment comment = new Comment("contents", user, todo);
-        Comment comment1 = new Comment("content2", user, todo);
+    @Test
+    void comment_커서_마지막_페이지는_다음_커서가_없다() {
+        // given
+        long todoId = 1L;
+        given(commentRepository.findNextCommentResponses(todoId, 2L, PageRequest.of(0, 4)))
+                .willReturn(List.of(commentResponse(3L)));
 
-        List<Comment> mockCommentList = Arrays.asList(comment, comment1);
-        given(commentRepository.findByTodoIdWithUser(todo.getId())).willReturn(mockCommentList);
+        // when
+        CommentCursorResponse response = commentService.getCommentsByCursor(todoId, 2L, 3);
 
+        // then
+        assertEquals(1, response.getContents().size());
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    void comment_커서_size_가_최대값을_넘으면_에러가_발생한다() {
         // when
-        List<CommentResponse> dtoList = commentService.getComments(todoId);
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentService.getCommentsByCursor(1L, null, 4));
+
+        // then
+        assertEquals("size 는 1 이상 3 이하여야 합니다.", exception.getMessage());
+    }
 
-        assertEquals(2, dtoList.size());
+    private CommentResponse commentResponse(Long id) {
+        return new CommentResponse(id, "contents" + id, 1L, "email@nave.com");
     }
 }
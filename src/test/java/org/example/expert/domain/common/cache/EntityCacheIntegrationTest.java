@@ -0,0 +1,169 @@
+package org.example.expert.domain.common.cache;
+
+import org.example.expert.domain.common.dto.CacheStatsResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserAdminService;
+import org.example.expert.domain.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class EntityCacheIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserAdminService userAdminService;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CacheStatsService cacheStatsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("cache@email.com", "password", UserRole.USER));
+        todo = todoRepository.save(new Todo("before", "contents", "Sunny", user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM users");
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void 유저_조회는_두번째부터_캐시에서_읽는다() {
+        // given
+        long hitCount = usersStats().getHitCount();
+
+        // when
+        userService.getUser(user.getId());
+        userService.getUser(user.getId());
+
+        // then
+        assertEquals(hitCount + 1, usersStats().getHitCount());
+        assertNotNull(usersCache().get(user.getId()));
+    }
+
+    @Test
+    void 유저_권한_변경이_커밋되면_캐시가_비워진다() {
+        // given
+        userService.getUser(user.getId());
+
+        // when
+        userAdminService.changeUserRole(user.getId(), new UserRoleChangeRequest("ADMIN"));
+
+        // then
+        assertNull(usersCache().get(user.getId()));
+    }
+
+    @Test
+    void 비밀번호_변경은_커밋_전에는_캐시를_비우지_않고_커밋_후에_비운다() {
+        // given
+        userService.getUser(user.getId());
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            assertEquals(1, userRepository.updatePassword(user.getId(), "password", "new-password"));
+
+            // then : 아직 커밋 전이므로 다른 트랜잭션이 읽을 값은 기존 값과 같습니다.
+            assertNotNull(usersCache().get(user.getId()));
+        });
+        assertNull(usersCache().get(user.getId()));
+    }
+
+    @Test
+    void 일정_수정이_커밋되면_다음_조회는_새_값을_읽는다() {
+        // given
+        assertEquals("before", todoService.getTodo(todo.getId()).getTitle());
+
+        // when
+        updateTodoTitle("after");
+
+        // then
+        assertEquals("after", todoService.getTodo(todo.getId()).getTitle());
+    }
+
+    @Test
+    void 커밋과_겹쳐_진행중이던_조회는_커밋_후_캐시에_기존값을_남기지_않는다() throws Exception {
+        // given : 수정 전 값을 읽은 상태에서 캐시에 넣기 직전에 멈춘 조회
+        Cache todosCache = cacheManager.getCache(CacheNames.TODOS);
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> reader = CompletableFuture.supplyAsync(() -> todosCache.get(todo.getId(), () -> {
+            String title = jdbcTemplate.queryForObject("SELECT title FROM todos WHERE id = ?", String.class, todo.getId());
+            loaded.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return title;
+        }));
+        assertTrue(loaded.await(5, TimeUnit.SECONDS));
+
+        // when : 조회가 끝나기 전에 수정이 커밋됩니다.
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> updateTodoTitle("after"));
+        Thread.sleep(100);
+        release.countDown();
+        assertEquals("before", reader.get(5, TimeUnit.SECONDS));
+        writer.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals("after", todoService.getTodo(todo.getId()).getTitle());
+    }
+
+    private void updateTodoTitle(String title) {
+        transactionTemplate.executeWithoutResult(status ->
+                todoRepository.findById(todo.getId()).orElseThrow().update(title, "contents"));
+    }
+
+    private CacheStatsResponse usersStats() {
+        return cacheStatsService.getCacheStats().stream()
+                .filter(stats -> CacheNames.USERS.equals(stats.getName()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Cache usersCache() {
+        return cacheManager.getCache(CacheNames.USERS);
+    }
+}
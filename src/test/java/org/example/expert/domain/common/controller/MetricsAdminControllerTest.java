@@ -0,0 +1,44 @@
+package org.example.expert.domain.common.controller;
+
+import org.example.expert.domain.common.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(MetricsAdminController.class)
+@Import(MetricsRegistry.class)
+class MetricsAdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MetricsRegistry metricsRegistry;
+
+    @Test
+    void 지표_조회는_직전_요청의_처리_시간을_포함한다() throws Exception {
+        mockMvc.perform(get("/admin/metrics"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/admin/metrics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("http MetricsAdminController.getMetrics 200"))
+                .andExpect(jsonPath("$[0].count").value(1));
+    }
+
+    @Test
+    void 게이지_조회는_등록된_게이지를_반환한다() throws Exception {
+        metricsRegistry.gauge("client WeatherClient.cache.hit", () -> 7L);
+
+        mockMvc.perform(get("/admin/metrics/gauges"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("client WeatherClient.cache.hit"))
+                .andExpect(jsonPath("$[0].value").value(7));
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.expert.domain.common.metrics;
+
+import org.example.expert.client.CircuitBreaker;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PasswordHashExecutor;
+import org.example.expert.domain.common.dto.GaugeResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MetricsRegistry metricsRegistry;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WeatherClient weatherClient;
+
+    @Autowired
+    private PasswordHashExecutor passwordHashExecutor;
+
+    @Test
+    void 저장소_메서드는_상속받은_메서드까지_저장소_이름으로_기록된다() {
+        // given
+        long findById = count("repository TodoRepository.findById");
+        long existsByEmail = count("repository UserRepository.existsByEmail");
+
+        // when
+        todoRepository.findById(-1L);
+        userRepository.existsByEmail("nobody@email.com");
+
+        // then
+        assertEquals(findById + 1, count("repository TodoRepository.findById"));
+        assertEquals(existsByEmail + 1, count("repository UserRepository.existsByEmail"));
+    }
+
+    @Test
+    void 날씨_API와_해싱은_기존_히스토그램으로_등록된다() {
+        assertSame(weatherClient.getLatencyHistogram(), metricsRegistry.timer("client WeatherClient.fetch").getHistogram());
+        assertSame(passwordHashExecutor.getEncodeLatency(), metricsRegistry.timer("password PasswordEncoder.encode").getHistogram());
+        assertSame(passwordHashExecutor.getMatchLatency(), metricsRegistry.timer("password PasswordEncoder.matches").getHistogram());
+    }
+
+    @Test
+    void 날씨_캐시_적중_누락_갱신_횟수를_게이지로_노출한다() {
+        // when
+        Map<String, Object> gauges = gauges();
+
+        // then
+        assertEquals(weatherClient.getCacheHitCount(), gauges.get("client WeatherClient.cache.hit"));
+        assertEquals(weatherClient.getCacheMissCount(), gauges.get("client WeatherClient.cache.miss"));
+        assertEquals(weatherClient.getCacheRefreshCount(), gauges.get("client WeatherClient.cache.refresh"));
+        assertEquals(weatherClient.getCacheSize(), gauges.get("client WeatherClient.cache.size"));
+    }
+
+    @Test
+    void 날씨_API_서킷_상태와_대체_응답_횟수를_게이지로_노출한다() {
+        // when
+        Map<String, Object> gauges = gauges();
+
+        // then
+        assertEquals(weatherClient.getCircuitBreakerState(), gauges.get("client WeatherClient.circuit.state"));
+        assertInstanceOf(CircuitBreaker.State.class, gauges.get("client WeatherClient.circuit.state"));
+        assertEquals(weatherClient.getFallbackCount(), gauges.get("client WeatherClient.fallback"));
+    }
+
+    @Test
+    void 해싱_풀의_대기_실행_거절_수를_게이지로_노출한다() {
+        // when
+        Map<String, Object> gauges = gauges();
+
+        // then
+        assertEquals(passwordHashExecutor.getQueueDepth(), gauges.get("password PasswordHashExecutor.queue"));
+        assertEquals(passwordHashExecutor.getActiveCount(), gauges.get("password PasswordHashExecutor.active"));
+        assertEquals(passwordHashExecutor.getRejectedCount(), gauges.get("password PasswordHashExecutor.rejected"));
+    }
+
+    private Map<String, Object> gauges() {
+        return metricsRegistry.gaugeSnapshot().stream()
+                .collect(Collectors.toMap(GaugeResponse::getName, GaugeResponse::getValue));
+    }
+
+    private long count(String name) {
+        return metricsRegistry.timer(name).getHistogram().getCount();
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.expert.domain.common.metrics;
+
+import org.example.expert.domain.common.dto.GaugeResponse;
+import org.example.expert.domain.common.dto.MetricResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    private final MetricsRegistry metricsRegistry = new MetricsRegistry();
+
+    @Test
+    void 같은_이름은_같은_타이머를_반환한다() {
+        assertSame(metricsRegistry.timer("a"), metricsRegistry.timer("a"));
+    }
+
+    @Test
+    void 등록한_히스토그램을_그대로_노출한다() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        metricsRegistry.register("client", histogram);
+
+        // when
+        histogram.record(1_000_000);
+
+        // then
+        assertSame(histogram, metricsRegistry.timer("client").getHistogram());
+        assertEquals(1, metricsRegistry.snapshot().get(0).getCount());
+    }
+
+    @Test
+    void 스냅샷은_기록이_있는_지표만_이름순으로_밀리초_단위로_내려준다() {
+        // given
+        metricsRegistry.timer("empty");
+        for (int i = 1; i <= 100; i++) {
+            metricsRegistry.timer("b").record(i * 1_000_000L);
+        }
+        metricsRegistry.timer("a").record(5_000_000L);
+
+        // when
+        List<MetricResponse> snapshot = metricsRegistry.snapshot();
+
+        // then
+        assertEquals(List.of("a", "b"), snapshot.stream().map(MetricResponse::getName).toList());
+        MetricResponse b = snapshot.get(1);
+        assertEquals(100, b.getCount());
+        assertEquals(50, b.getP50Millis(), 50 * 0.125);
+        assertEquals(99, b.getP99Millis(), 99 * 0.125);
+        assertEquals(100, b.getMaxMillis(), 0.001);
+    }
+
+    @Test
+    void 처리량은_가장_오래된_표본_이후의_기록으로_계산한다() {
+        // given
+        TimedMetric timer = metricsRegistry.timer("rate");
+        timer.record(1);
+        timer.tick(0L);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            timer.record(1);
+        }
+
+        // then
+        assertEquals(5.0, timer.ratePerSecond(2_000_000_000L), 0.0001);
+    }
+
+    @Test
+    void 게이지는_조회할_때마다_현재_값을_이름순으로_읽는다() {
+        // given
+        AtomicLong counter = new AtomicLong();
+        metricsRegistry.gauge("b", counter::get);
+        metricsRegistry.gauge("a", () -> "OPEN");
+
+        // when
+        counter.set(3);
+        List<GaugeResponse> gauges = metricsRegistry.gaugeSnapshot();
+
+        // then
+        assertEquals(List.of("a", "b"), gauges.stream().map(GaugeResponse::getName).toList());
+        assertEquals("OPEN", gauges.get(0).getValue());
+        assertEquals(3L, gauges.get(1).getValue());
+    }
+}
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
@@ -24,8 +25,10 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -113,7 +116,7 @@ class ManagerServiceTest {
 
         given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
         given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
-        given(managerRepository.save(any(Manager.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(managerRepository.saveAndFlush(any(Manager.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
         ManagerSaveResponse response = managerService.saveManager(authUser, todoId, managerSaveRequest);
@@ -124,6 +127,62 @@ class ManagerServiceTest {
         assertEquals(managerUser.getEmail(), response.getUser().getEmail());
     }
 
+    @Test
+    void 이미_등록된_담당자는_다시_등록할_수_없다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        User user = User.fromAuthUser(authUser);
+
+        long todoId = 1L;
+        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
+        ReflectionTestUtils.setField(todo, "id", todoId);
+
+        long managerUserId = 2L;
+        User managerUser = new User("b@b.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(managerUser, "id", managerUserId);
+
+        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
+        given(managerRepository.existsByTodoIdAndUserId(todoId, managerUserId)).willReturn(true);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> managerService.saveManager(authUser, todoId, new ManagerSaveRequest(managerUserId)));
+
+        // then
+        assertEquals("이미 등록된 담당자입니다.", exception.getMessage());
+        verify(managerRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void 동시_등록으로_유니크_인덱스가_위반되면_이미_등록된_담당자로_응답한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        User user = User.fromAuthUser(authUser);
+
+        long todoId = 1L;
+        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
+        ReflectionTestUtils.setField(todo, "id", todoId);
+
+        long managerUserId = 2L;
+        User managerUser = new User("b@b.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(managerUser, "id", managerUserId);
+
+        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
+        given(managerRepository.existsByTodoIdAndUserId(todoId, managerUserId)).willReturn(false);
+        given(managerRepository.saveAndFlush(any(Manager.class)))
+                .willThrow(new DataIntegrityViolationException("uk_managers_todo_id_user_id"));
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> managerService.saveManager(authUser, todoId, new ManagerSaveRequest(managerUserId)));
+
+        // then
+        assertEquals("이미 등록된 담당자입니다.", exception.getMessage());
+        verify(todoRepository, never()).addManagerCount(anyLong(), anyInt());
+    }
+
     @Test
     void 매니저_삭제() {
         // given
@@ -144,6 +203,7 @@ class ManagerServiceTest {
 
         // then
         verify(managerRepository).delete(manager);
+        verify(todoRepository).addManagerCount(todo.getId(), -1);
     }
 
     @Test
@@ -3,8 +3,13 @@ package org.example.expert.domain.todo.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.expert.config.AuthUserArgumentResolver;
 import org.example.expert.config.GlobalExceptionHandler;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.service.TodoBulkService;
+import org.example.expert.domain.todo.service.TodoDeleteService;
+import org.example.expert.domain.todo.service.TodoExportService;
 import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -13,11 +18,21 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -30,6 +45,15 @@ class TodoControllerTest {
     @MockBean
     private TodoService todoService;
 
+    @MockBean
+    private TodoBulkService todoBulkService;
+
+    @MockBean
+    private TodoExportService todoExportService;
+
+    @MockBean
+    private TodoDeleteService todoDeleteService;
+
     @Mock
     private AuthUserArgumentResolver resolver;
 
@@ -58,6 +82,37 @@ class TodoControllerTest {
         resultActions.andExpect(status().isOk());
     }
 
+    @Test
+    void 일정_일괄_등록() throws Exception {
+        given(todoBulkService.saveTodos(any(), any())).willReturn(outputStream ->
+                outputStream.write("{\"index\":0,\"id\":1,\"status\":\"CREATED\"}\n".getBytes()));
+
+        MvcResult mvcResult = mockMvc.perform(post("/todos/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"title\":\"test\",\"contents\":\"test\"}\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("CREATED")));
+    }
+
+    @Test
+    void 일정_내보내기() throws Exception {
+        AuthUser authUser = new AuthUser(1L, "email@email.com", UserRole.USER);
+        given(resolver.supportsParameter(any())).willReturn(true);
+        given(resolver.resolveArgument(any(), any(), any(), any())).willReturn(authUser);
+
+        MvcResult mvcResult = mockMvc.perform(get("/todos/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+        verify(todoExportService).exportTodos(eq(1L), any());
+    }
+
     @Test
     void 일정_리스트_조회() throws Exception {
         int page = 1;
@@ -65,6 +120,29 @@ class TodoControllerTest {
 
         ResultActions resultActions = mockMvc.perform(get("/todos", page, size));
 
+        resultActions.andExpect(status().isOk());
+        verify(todoService).getTodos(page, size, false);
+    }
+
+    @Test
+    void 일정_리스트_근사_개수_조회() throws Exception {
+        ResultActions resultActions = mockMvc.perform(get("/todos").param("approximateTotal", "true"));
+
+        resultActions.andExpect(status().isOk());
+        verify(todoService).getTodos(1, 10, true);
+    }
+
+    @Test
+    void 일정_슬라이스_조회() throws Exception {
+        ResultActions resultActions = mockMvc.perform(get("/todos/slice").param("page", "1").param("size", "10"));
+
+        resultActions.andExpect(status().isOk());
+    }
+
+    @Test
+    void 일정_커서_조회() throws Exception {
+        ResultActions resultActions = mockMvc.perform(get("/todos/cursor").param("size", "10"));
+
         resultActions.andExpect(status().isOk());
     }
 
@@ -77,5 +155,27 @@ class TodoControllerTest {
         resultActions.andExpect(status().isOk());
     }
 
+    @Test
+    void 일정_상세_조회() throws Exception {
+        long todoId = 1L;
+
+        ResultActions resultActions = mockMvc.perform(get("/todos/{todoId}/detail", todoId));
+
+        resultActions.andExpect(status().isOk());
+    }
+
+    @Test
+    void 일정_삭제() throws Exception {
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L, "email@email.com", UserRole.USER);
+        given(resolver.supportsParameter(any())).willReturn(true);
+        given(resolver.resolveArgument(any(), any(), any(), any())).willReturn(authUser);
+
+        ResultActions resultActions = mockMvc.perform(delete("/todos/{todoId}", todoId));
+
+        resultActions.andExpect(status().isOk());
+        verify(todoDeleteService).deleteTodo(authUser, todoId);
+    }
+
 
 }
\ No newline at end of file
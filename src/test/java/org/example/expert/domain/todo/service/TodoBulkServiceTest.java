@@ -0,0 +1,167 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoBulkServiceTest {
+
+    @Mock
+    private TodoBulkWriter todoBulkWriter;
+
+    @Mock
+    private TodoCountCache todoCountCache;
+
+    @Mock
+    private WeatherClient weatherClient;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    private final AuthUser authUser = new AuthUser(1L, "email@email.com", UserRole.USER);
+
+    private TodoBulkService todoBulkService;
+
+    @BeforeEach
+    void setUp() {
+        todoBulkService = new TodoBulkService(todoBulkWriter, todoCountCache, weatherClient, objectMapper, validator, 2);
+    }
+
+    @Test
+    void NDJSON_본문을_청크_단위로_저장하고_항목별_결과를_순서대로_반환한다() throws Exception {
+        // given
+        String body = """
+                {"title":"t1","contents":"c1"}
+                {"title":"","contents":"c2"}
+                {"title":"t3","contents":"c3"}
+                {"title":"t4","contents":"c4"}
+                """;
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        AtomicLong ids = new AtomicLong();
+        given(todoBulkWriter.saveChunk(anyList())).willAnswer(invocation -> {
+            List<Todo> todos = invocation.getArgument(0);
+            List<Long> saved = new ArrayList<>();
+            todos.forEach(todo -> saved.add(ids.incrementAndGet()));
+            return saved;
+        });
+
+        // when
+        List<JsonNode> results = run(body);
+
+        // then
+        assertEquals(4, results.size());
+        assertEquals("CREATED", results.get(0).get("status").asText());
+        assertEquals("INVALID", results.get(1).get("status").asText());
+        assertEquals(1, results.get(1).get("index").asInt());
+        assertEquals("CREATED", results.get(2).get("status").asText());
+        assertEquals(3, results.get(3).get("index").asInt());
+        verify(weatherClient, times(1)).getTodayWeather();
+        verify(todoBulkWriter, times(2)).saveChunk(anyList());
+    }
+
+    @Test
+    void JSON_배열_본문도_한_건씩_읽는다() throws Exception {
+        // given
+        String body = "[{\"title\":\"t1\",\"contents\":\"c1\"}]";
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        given(todoBulkWriter.saveChunk(anyList())).willReturn(List.of(10L));
+
+        // when
+        List<JsonNode> results = run(body);
+
+        // then
+        assertEquals(1, results.size());
+        assertEquals(10L, results.get(0).get("id").asLong());
+        verify(todoCountCache).increment(1L);
+    }
+
+    @Test
+    void 청크_저장에_실패하면_해당_청크_항목은_FAILED_로_응답한다() throws Exception {
+        // given
+        String body = "{\"title\":\"t1\",\"contents\":\"c1\"}\n";
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        given(todoBulkWriter.saveChunk(anyList())).willThrow(new DataIntegrityViolationException("fail"));
+
+        // when
+        List<JsonNode> results = run(body);
+
+        // then
+        assertEquals("FAILED", results.get(0).get("status").asText());
+    }
+
+    @Test
+    void 청크_저장중_변환되지_않은_예외가_나도_FAILED_로_응답하고_다음_청크를_저장한다() throws Exception {
+        // given
+        String body = """
+                {"title":"t1","contents":"c1"}
+                {"title":"t2","contents":"c2"}
+                {"title":"t3","contents":"c3"}
+                """;
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        given(todoBulkWriter.saveChunk(anyList()))
+                .willThrow(new PersistenceException("flush fail"))
+                .willReturn(List.of(3L));
+
+        // when
+        List<JsonNode> results = run(body);
+
+        // then
+        assertEquals(3, results.size());
+        assertEquals("FAILED", results.get(0).get("status").asText());
+        assertEquals("FAILED", results.get(1).get("status").asText());
+        assertEquals("CREATED", results.get(2).get("status").asText());
+    }
+
+    @Test
+    void 깨진_본문은_읽은_곳까지_저장하고_중단한다() throws Exception {
+        // given
+        String body = "{\"title\":\"t1\",\"contents\":\"c1\"}\n{\"title\":";
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        given(todoBulkWriter.saveChunk(anyList())).willReturn(List.of(1L));
+
+        // when
+        List<JsonNode> results = run(body);
+
+        // then
+        assertEquals(2, results.size());
+        assertEquals("CREATED", results.get(0).get("status").asText());
+        assertEquals("INVALID", results.get(1).get("status").asText());
+    }
+
+    private List<JsonNode> run(String body) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        todoBulkService.saveTodos(authUser, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)))
+                .writeTo(outputStream);
+
+        List<JsonNode> results = new ArrayList<>();
+        objectMapper.readerFor(JsonNode.class)
+                .<JsonNode>readValues(outputStream.toByteArray())
+                .forEachRemaining(results::add);
+        return results;
+    }
+}
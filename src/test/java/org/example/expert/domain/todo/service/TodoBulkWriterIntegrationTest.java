@@ -0,0 +1,78 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * OSIV 처럼 요청 동안 유지되는 영속성 컨텍스트에서도 청크 저장 후 엔티티가 남지 않는지 확인합니다.
+ */
+@SpringBootTest
+class TodoBulkWriterIntegrationTest {
+
+    @Autowired
+    private TodoBulkWriter todoBulkWriter;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void 청크를_저장하면_요청의_영속성_컨텍스트가_비워진다() {
+        // given
+        User user = userRepository.save(new User("bulk@email.com", "password", UserRole.USER));
+        List<Todo> todos = List.of(
+                new Todo("t1", "c1", "Sunny", user),
+                new Todo("t2", "c2", "Sunny", user)
+        );
+
+        // OpenEntityManagerInViewInterceptor 와 같이 요청 단위 EntityManager 를 스레드에 묶어 둡니다.
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            // when
+            List<Long> ids = todoBulkWriter.saveChunk(todos);
+
+            // then
+            assertEquals(2, ids.size());
+            assertEquals(0, entityManager.unwrap(SessionImplementor.class).getPersistenceContext().getNumberOfManagedEntities());
+            todos.forEach(todo -> assertFalse(entityManager.contains(todo)));
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+        assertEquals(2, todoRepository.count());
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoCountCacheTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @InjectMocks
+    private TodoCountCache todoCountCache;
+
+    @Test
+    void 처음_조회할_때만_COUNT_하고_이후에는_캐시값을_사용한다() {
+        // given
+        given(todoRepository.count()).willReturn(10L);
+
+        // when
+        todoCountCache.get();
+        long count = todoCountCache.get();
+
+        // then
+        assertEquals(10L, count);
+        verify(todoRepository, times(1)).count();
+    }
+
+    @Test
+    void 저장과_삭제는_다음_갱신_전까지_증감으로_반영된다() {
+        // given
+        given(todoRepository.count()).willReturn(10L);
+        todoCountCache.get();
+
+        // when
+        todoCountCache.increment();
+        todoCountCache.decrement(3);
+
+        // then
+        assertEquals(8L, todoCountCache.get());
+    }
+
+    @Test
+    void 갱신에_실패하면_기존_값을_유지한다() {
+        // given
+        given(todoRepository.count()).willReturn(10L).willThrow(new QueryTimeoutException("timeout"));
+        todoCountCache.get();
+
+        // when
+        todoCountCache.refresh();
+
+        // then
+        assertEquals(10L, todoCountCache.get());
+        assertEquals(1, todoCountCache.getRefreshCount());
+    }
+}
@@ -0,0 +1,180 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.cache.CacheNames;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "todo.counter.reconcile-chunk-size=2")
+class TodoCounterIntegrationTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentAdminService commentAdminService;
+
+    @Autowired
+    private ManagerService managerService;
+
+    @Autowired
+    private TodoCounterReconciler todoCounterReconciler;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+    private AuthUser ownerAuth;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User("owner@email.com", "password", UserRole.USER));
+        ownerAuth = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+        todo = todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM users");
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void 일정을_만들면_작성자가_담당자로_세어진다() {
+        // when
+        TodoResponse response = todoService.getTodo(todo.getId());
+
+        // then
+        assertEquals(0, response.getCommentCount());
+        assertEquals(1, response.getManagerCount());
+    }
+
+    @Test
+    void 댓글_등록과_삭제가_카운터와_캐시에_반영된다() {
+        // given
+        todoService.getTodo(todo.getId());
+
+        // when
+        commentService.saveComment(ownerAuth, todo.getId(), new CommentSaveRequest("first"));
+        long secondId = commentService.saveComment(ownerAuth, todo.getId(), new CommentSaveRequest("second")).getId();
+        commentAdminService.deleteComment(secondId);
+
+        // then
+        assertNull(cacheManager.getCache(CacheNames.TODOS).get(todo.getId()));
+        assertEquals(1, todoService.getTodo(todo.getId()).getCommentCount());
+    }
+
+    @Test
+    void 담당자_등록과_삭제가_카운터에_반영된다() {
+        // given
+        User managerUser = userRepository.save(new User("manager@email.com", "password", UserRole.USER));
+
+        // when
+        ManagerSaveResponse saved = managerService.saveManager(ownerAuth, todo.getId(), new ManagerSaveRequest(managerUser.getId()));
+        int afterSave = todoService.getTodo(todo.getId()).getManagerCount();
+        managerService.deleteManager(ownerAuth, todo.getId(), saved.getId());
+
+        // then
+        assertEquals(2, afterSave);
+        assertEquals(1, todoService.getTodo(todo.getId()).getManagerCount());
+    }
+
+    @Test
+    void 동시에_댓글이_달려도_카운터가_유실되지_않는다() {
+        // given
+        int comments = 40;
+
+        // when
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < comments; i++) {
+            futures.add(CompletableFuture.runAsync(() ->
+                    commentService.saveComment(ownerAuth, todo.getId(), new CommentSaveRequest("contents"))));
+        }
+        futures.forEach(CompletableFuture::join);
+
+        // then
+        assertEquals(comments, todoRepository.findFirstTodoResponses(PageRequest.of(0, 1)).get(0).getCommentCount());
+    }
+
+    @Test
+    void 일정_수정은_카운터를_덮어쓰지_않는다() {
+        // given
+        commentService.saveComment(ownerAuth, todo.getId(), new CommentSaveRequest("contents"));
+
+        // when : 카운터 증가 전에 읽어 둔 엔티티를 수정해도 카운터 컬럼은 UPDATE 대상이 아닙니다.
+        transactionTemplate.executeWithoutResult(status -> {
+            Todo managed = todoRepository.findById(todo.getId()).orElseThrow();
+            todoRepository.addCommentCount(todo.getId(), 1);
+            managed.update("after", "contents");
+        });
+
+        // then
+        assertEquals(2, todoService.getTodo(todo.getId()).getCommentCount());
+    }
+
+    @Test
+    void 보정_작업은_어긋난_카운터만_실제_개수로_고친다() {
+        // given : 서비스를 거치지 않고 댓글을 넣고 카운터를 틀어 둡니다.
+        Todo other = todoRepository.save(new Todo("other", "contents", "Sunny", owner));
+        Todo third = todoRepository.save(new Todo("third", "contents", "Sunny", owner));
+        jdbcTemplate.update("INSERT INTO comments (id, contents, user_id, todo_id) VALUES (?, ?, ?, ?)",
+                9001L, "direct", owner.getId(), todo.getId());
+        jdbcTemplate.update("UPDATE todos SET manager_count = 5 WHERE id = ?", third.getId());
+        todoService.getTodo(todo.getId());
+
+        // when
+        int repaired = todoCounterReconciler.reconcile();
+
+        // then
+        assertEquals(2, repaired);
+        assertNull(cacheManager.getCache(CacheNames.TODOS).get(todo.getId()));
+        assertEquals(1, todoService.getTodo(todo.getId()).getCommentCount());
+        assertEquals(1, todoService.getTodo(third.getId()).getManagerCount());
+        assertEquals(0, todoService.getTodo(other.getId()).getCommentCount());
+        assertEquals(0, todoCounterReconciler.reconcile());
+    }
+}
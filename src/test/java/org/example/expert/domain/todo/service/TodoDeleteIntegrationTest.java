@@ -0,0 +1,135 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.common.cache.CacheNames;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "todo.delete.chunk-size=2")
+class TodoDeleteIntegrationTest {
+
+    private static final int COMMENTS = 5;
+
+    @Autowired
+    private TodoDeleteService todoDeleteService;
+
+    @Autowired
+    private CommentAdminService commentAdminService;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoCountCache todoCountCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+    private User managerUser;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User("owner@email.com", "password", UserRole.USER));
+        managerUser = userRepository.save(new User("manager@email.com", "password", UserRole.USER));
+        todo = todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+
+        jdbcTemplate.update("INSERT INTO managers (id, user_id, todo_id) VALUES (?, ?, ?)", 9001L, managerUser.getId(), todo.getId());
+        List<Object[]> comments = new ArrayList<>();
+        for (long id = 1; id <= COMMENTS; id++) {
+            comments.add(new Object[]{9000L + id, "comment" + id, owner.getId(), todo.getId()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO comments (id, contents, user_id, todo_id) VALUES (?, ?, ?, ?)", comments);
+        jdbcTemplate.update("UPDATE todos SET comment_count = ?, manager_count = 2 WHERE id = ?", COMMENTS, todo.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM users");
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void 일정을_삭제하면_댓글과_담당자가_함께_삭제되고_캐시가_비워진다() {
+        // given
+        todoService.getTodo(todo.getId());
+        todoCountCache.refresh();
+        long countBefore = todoCountCache.get();
+
+        // when
+        todoDeleteService.deleteTodo(new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER), todo.getId());
+
+        // then
+        assertFalse(todoRepository.existsById(todo.getId()));
+        assertEquals(0, count("comments"));
+        assertEquals(0, count("managers"));
+        assertNull(cacheManager.getCache(CacheNames.TODOS).get(todo.getId()));
+        assertEquals(countBefore - 1, todoCountCache.get());
+    }
+
+    @Test
+    void 작성자가_아니면_일정을_삭제할_수_없다() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                todoDeleteService.deleteTodo(new AuthUser(managerUser.getId(), managerUser.getEmail(), UserRole.USER), todo.getId()));
+
+        // then
+        assertEquals("일정을 만든 유저만 삭제할 수 있습니다.", exception.getMessage());
+        assertEquals(COMMENTS, count("comments"));
+    }
+
+    @Test
+    void 관리자는_일정의_댓글만_모두_삭제할_수_있다() {
+        // when
+        commentAdminService.purgeComments(todo.getId());
+
+        // then
+        assertEquals(0, count("comments"));
+        assertEquals(2, count("managers"));
+        assertEquals(0, todoService.getTodo(todo.getId()).getCommentCount());
+    }
+
+    @Test
+    void 없는_일정의_댓글은_삭제할_수_없다() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                commentAdminService.purgeComments(todo.getId() + 1000));
+
+        // then
+        assertEquals("Todo not found", exception.getMessage());
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class TodoExportIntegrationTest {
+
+    @Autowired
+    private TodoExportService todoExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void 유저의_일정만_댓글과_함께_내보낸다() throws Exception {
+        // given
+        User user = userRepository.save(new User("export@email.com", "password", UserRole.USER));
+        User other = userRepository.save(new User("other@email.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("mine", "contents", "Sunny", user));
+        todoRepository.save(new Todo("mine2", "contents", "Sunny", user));
+        todoRepository.save(new Todo("others", "contents", "Sunny", other));
+        commentRepository.save(new Comment("comment", other, todo));
+
+        // when
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        todoExportService.exportTodos(user.getId(), outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).trim().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"comment\""));
+        assertTrue(lines[1].contains("mine2"));
+    }
+}
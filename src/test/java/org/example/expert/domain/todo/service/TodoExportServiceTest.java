@@ -0,0 +1,101 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoExportServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private TodoExportService todoExportService;
+
+    @BeforeEach
+    void setUp() {
+        todoExportService = new TodoExportService(todoRepository, commentRepository, entityManager, objectMapper, 2);
+    }
+
+    @Test
+    void 청크마다_댓글을_한번에_조회하고_영속성_컨텍스트를_비운다() throws Exception {
+        // given
+        User user = new User("email@email.com", "1234", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        List<Todo> todos = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            Todo todo = new Todo("title" + id, "contents", "Sunny", user);
+            ReflectionTestUtils.setField(todo, "id", id);
+            todos.add(todo);
+        }
+        Comment comment = new Comment("comment", user, todos.get(0));
+        ReflectionTestUtils.setField(comment, "id", 10L);
+
+        given(todoRepository.streamByUserId(1L)).willReturn(todos.stream());
+        given(commentRepository.findByTodoIdsWithUser(anyCollection()))
+                .willReturn(List.of(comment))
+                .willReturn(List.of());
+
+        // when
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        todoExportService.exportTodos(1L, outputStream);
+
+        // then
+        List<JsonNode> lines = new ArrayList<>();
+        objectMapper.readerFor(JsonNode.class)
+                .<JsonNode>readValues(outputStream.toByteArray())
+                .forEachRemaining(lines::add);
+
+        assertEquals(3, lines.size());
+        assertEquals("comment", lines.get(0).get("comments").get(0).get("contents").asText());
+        assertEquals(0, lines.get(2).get("comments").size());
+        verify(commentRepository, times(2)).findByTodoIdsWithUser(anyCollection());
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void 일정이_없으면_아무것도_쓰지_않는다() throws Exception {
+        // given
+        given(todoRepository.streamByUserId(1L)).willReturn(Stream.empty());
+
+        // when
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        todoExportService.exportTodos(1L, outputStream);
+
+        // then
+        assertEquals(0, outputStream.size());
+    }
+}
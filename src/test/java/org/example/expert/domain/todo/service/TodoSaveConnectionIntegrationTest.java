@@ -0,0 +1,169 @@
+package org.example.expert.domain.todo.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 날씨 조회를 기다리는 동안 트랜잭션과 DB 커넥션을 잡고 있지 않은지 확인합니다.
+ * 커넥션 풀을 2 개로 줄이고 그보다 많은 요청이 동시에 날씨를 기다리게 만듭니다.
+ */
+@SpringBootTest(properties = "spring.datasource.hikari.maximum-pool-size=2")
+class TodoSaveConnectionIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TodoSaveConnectionIntegrationTest.class);
+
+    private static final int CONCURRENT_SAVES = 8;
+    private static final int MEASURED_SAVES = 5;
+    private static final long WEATHER_DELAY_MILLIS = 100;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private AuthUser authUser;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("owner@email.com", "password", UserRole.USER));
+        authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.USER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM users");
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void 날씨_조회_중에는_트랜잭션이_없다() {
+        // given
+        List<Boolean> transactionActive = new ArrayList<>();
+        given(weatherClient.getTodayWeatherAsync()).willAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return CompletableFuture.completedFuture("Sunny");
+        });
+
+        // when
+        todoService.saveTodo(authUser, saveRequest());
+
+        // then
+        assertEquals(List.of(false), transactionActive);
+    }
+
+    @Test
+    void 풀_크기보다_많은_요청이_날씨를_기다려도_커넥션을_점유하지_않는다() throws Exception {
+        // given : 모든 요청이 날씨 응답을 기다리는 상태에서 멈춰 둡니다.
+        CompletableFuture<String> weather = new CompletableFuture<>();
+        CountDownLatch waiting = new CountDownLatch(CONCURRENT_SAVES);
+        given(weatherClient.getTodayWeatherAsync()).willAnswer(invocation -> {
+            waiting.countDown();
+            return weather;
+        });
+
+        List<CompletableFuture<Void>> saves = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_SAVES; i++) {
+            saves.add(CompletableFuture.runAsync(() -> todoService.saveTodo(authUser, saveRequest())));
+        }
+        assertTrue(waiting.await(10, TimeUnit.SECONDS));
+
+        // when
+        int activeWhileWaiting = ((HikariDataSource) dataSource).getHikariPoolMXBean().getActiveConnections();
+        weather.complete("Sunny");
+        CompletableFuture.allOf(saves.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(0, activeWhileWaiting);
+        assertEquals(CONCURRENT_SAVES, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todos", Integer.class));
+    }
+
+    @Test
+    void 요청당_커넥션_점유_시간을_트랜잭션_안에서_날씨를_기다리던_방식과_비교한다() {
+        // given : 풀에서 커넥션을 빌려 돌려줄 때까지의 시간을 기록합니다.
+        Queue<Long> usageMillis = new ConcurrentLinkedQueue<>();
+        ((HikariDataSource) dataSource).setMetricsTrackerFactory((poolName, poolStats) -> new IMetricsTracker() {
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usageMillis.add(elapsedBorrowedMillis);
+            }
+        });
+        given(weatherClient.getTodayWeatherAsync()).willAnswer(invocation -> CompletableFuture.supplyAsync(
+                () -> "Sunny", CompletableFuture.delayedExecutor(WEATHER_DELAY_MILLIS, TimeUnit.MILLISECONDS)));
+
+        // when : 이전 방식은 바깥 트랜잭션이 날씨를 기다리는 동안에도 커넥션을 잡고 있던 구조를 재현합니다.
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        double before = holdMillisPerRequest(usageMillis,
+                () -> transactionTemplate.executeWithoutResult(status -> todoService.saveTodo(authUser, saveRequest())));
+        double after = holdMillisPerRequest(usageMillis, () -> todoService.saveTodo(authUser, saveRequest()));
+
+        // then
+        log.info("요청당 커넥션 점유 시간 (날씨 응답 {} ms) : 이전 {} ms, 현재 {} ms", WEATHER_DELAY_MILLIS, before, after);
+        assertTrue(before >= WEATHER_DELAY_MILLIS);
+        assertTrue(after < WEATHER_DELAY_MILLIS / 2.0);
+    }
+
+    private static double holdMillisPerRequest(Queue<Long> usageMillis, Runnable request) {
+        usageMillis.clear();
+        for (int i = 0; i < MEASURED_SAVES; i++) {
+            request.run();
+        }
+        return usageMillis.stream().mapToLong(Long::longValue).sum() / (double) MEASURED_SAVES;
+    }
+
+    private static TodoSaveRequest saveRequest() {
+        TodoSaveRequest request = new TodoSaveRequest();
+        ReflectionTestUtils.setField(request, "title", "title");
+        ReflectionTestUtils.setField(request, "contents", "contents");
+        return request;
+    }
+}
@@ -1,49 +1,79 @@
 package org.example.expert.domain.todo.service;
 
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class TodoServiceTest {
 
+    private static final int DETAIL_COMMENT_SIZE = 2;
+
     @Mock
     private TodoRepository todoRepository;
 
     @Mock
     private WeatherClient weatherClient;
 
-    @InjectMocks
+    @Mock
+    private TodoCountCache todoCountCache;
+
+    @Mock
+    private ManagerRepository managerRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
     private TodoService todoService;
 
+    @BeforeEach
+    void setUp() {
+        todoService = new TodoService(todoRepository, weatherClient, todoCountCache, managerRepository, commentRepository, DETAIL_COMMENT_SIZE);
+    }
+
     @Test
     void 일정저장() {
 
@@ -59,6 +89,7 @@ class TodoServiceTest {
         Todo todo = new Todo("title", "test", "weathr", user);
         ReflectionTestUtils.setField(todo, "id", 1L);
 
+        given(weatherClient.getTodayWeatherAsync()).willReturn(CompletableFuture.completedFuture("Sunny"));
         given(todoRepository.save(any(Todo.class))).willReturn(todo);
 
         // when
@@ -66,35 +97,86 @@ class TodoServiceTest {
 
         // then
         assertNotNull(todoResponse);
+        assertEquals("Sunny", todoResponse.getWeather());
+    }
+
+    @Test
+    void 날씨_조회에_실패하면_일정을_저장하지_않는다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "email@email.com", UserRole.USER);
+        TodoSaveRequest todoSaveRequest = new TodoSaveRequest();
+
+        given(weatherClient.getTodayWeatherAsync())
+                .willReturn(CompletableFuture.failedFuture(new ServerException("날씨 API 호출에 실패했습니다.")));
+
+        // when
+        ServerException exception = assertThrows(ServerException.class, () -> todoService.saveTodo(authUser, todoSaveRequest));
+
+        // then
+        assertEquals("날씨 API 호출에 실패했습니다.", exception.getMessage());
+        verify(todoRepository, never()).save(any(Todo.class));
     }
 
     @Test
     void 일정_리스트_가져오기() {
         // given
         int page = 1;
-        int size = 10;
+        int size = 2;
 
-        User user = new User("email@email.com", "1234", UserRole.USER);
+        LocalDateTime now = LocalDateTime.now();
+        TodoResponse todo = new TodoResponse(1L, "title", "test", "weather", 1L, "email@email.com", 0, 1, now, now);
+        TodoResponse todo2 = new TodoResponse(2L, "title", "test", "weather", 1L, "email@email.com", 0, 1, now, now);
 
-        Todo todo = new Todo("title", "test", "weather", user);
-        ReflectionTestUtils.setField(todo, "id", 1L);
+        Pageable pageable = PageRequest.of(page - 1, size);
 
-        Todo todo2 = new Todo("title", "test", "weather", user);
-        ReflectionTestUtils.setField(todo, "id", 1L);
+        List<TodoResponse> todoList = Arrays.asList(todo, todo2);
+        Slice<TodoResponse> todoSlice = new SliceImpl<>(todoList, pageable, true);
 
-        Pageable pageable = PageRequest.of(page - 1, size);
+        given(todoRepository.findTodoResponses(any(Pageable.class))).willReturn(todoSlice);
+        given(todoRepository.count()).willReturn(5L);
+
+        // when
+        Page<TodoResponse> responses = todoService.getTodos(page, size, false);
+
+        // then
+        assertEquals(5, responses.getTotalElements());
+        assertEquals("email@email.com", responses.getContent().get(0).getUser().getEmail());
+        verifyNoInteractions(todoCountCache);
+    }
 
-        List<Todo> todoList = Arrays.asList(todo, todo2);
-        Page<Todo> todoPage = new PageImpl<>(todoList, pageable, todoList.size());
+    @Test
+    void 일정_리스트는_요청하면_캐시된_근사_개수를_사용한다() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        TodoResponse todo = new TodoResponse(1L, "title", "test", "weather", 1L, "email@email.com", 0, 1, now, now);
+        Slice<TodoResponse> todoSlice = new SliceImpl<>(List.of(todo), PageRequest.of(0, 1), true);
 
-        given(todoRepository.findAllByOrderByModifiedAtDesc(any(Pageable.class))).willReturn(todoPage);
+        given(todoRepository.findTodoResponses(any(Pageable.class))).willReturn(todoSlice);
+        given(todoCountCache.get()).willReturn(7L);
 
         // when
-        Page<TodoResponse> responses = todoService.getTodos(page, size);
+        Page<TodoResponse> responses = todoService.getTodos(1, 1, true);
 
         // then
-        assertEquals(2, responses.getTotalElements());
+        assertEquals(7, responses.getTotalElements());
+        verify(todoRepository, never()).count();
+    }
+
+    @Test
+    void 일정_슬라이스는_전체_개수를_세지_않는다() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        TodoResponse todo = new TodoResponse(1L, "title", "test", "weather", 1L, "email@email.com", 0, 1, now, now);
+        Slice<TodoResponse> todoSlice = new SliceImpl<>(List.of(todo), PageRequest.of(0, 1), true);
+
+        given(todoRepository.findTodoResponses(any(Pageable.class))).willReturn(todoSlice);
+
+        // when
+        Slice<TodoResponse> responses = todoService.getTodoSlice(1, 1);
 
+        // then
+        assertTrue(responses.hasNext());
+        verifyNoInteractions(todoCountCache);
     }
 
     @Test
@@ -116,4 +198,117 @@ class TodoServiceTest {
         // then
         assertNotNull(response);
     }
-}
\ No newline at end of file
+
+    @Test
+    void 일정_상세는_일정_담당자_댓글을_함께_반환한다() {
+        // given
+        long todoId = 1L;
+        LocalDateTime now = LocalDateTime.now();
+        TodoResponse todo = new TodoResponse(todoId, "title", "test", "weather", 1L, "email@email.com", 0, 1, now, now);
+
+        given(todoRepository.findResponseById(todoId)).willReturn(Optional.of(todo));
+        given(managerRepository.findResponsesByTodoId(todoId)).willReturn(List.of(new ManagerResponse(1L, 2L, "manager@email.com")));
+        given(commentRepository.findFirstCommentResponses(todoId, PageRequest.of(0, DETAIL_COMMENT_SIZE + 1)))
+                .willReturn(List.of(new CommentResponse(1L, "comment", 2L, "manager@email.com")));
+
+        // when
+        TodoDetailResponse response = todoService.getTodoDetail(todoId);
+
+        // then
+        assertEquals(todoId, response.getTodo().getId());
+        assertEquals(1, response.getManagers().size());
+        assertEquals("comment", response.getComments().getContents().get(0).getContents());
+        assertFalse(response.getComments().isHasNext());
+        assertNull(response.getComments().getNextCursor());
+    }
+
+    @Test
+    void 일정_상세의_댓글은_첫_페이지만_담고_다음_커서를_반환한다() {
+        // given
+        long todoId = 1L;
+        LocalDateTime now = LocalDateTime.now();
+        TodoResponse todo = new TodoResponse(todoId, "title", "test", "weather", 1L, "email@email.com", 3, 0, now, now);
+
+        given(todoRepository.findResponseById(todoId)).willReturn(Optional.of(todo));
+        given(managerRepository.findResponsesByTodoId(todoId)).willReturn(List.of());
+        given(commentRepository.findFirstCommentResponses(todoId, PageRequest.of(0, DETAIL_COMMENT_SIZE + 1))).willReturn(List.of(
+                new CommentResponse(1L, "comment1", 2L, "manager@email.com"),
+                new CommentResponse(2L, "comment2", 2L, "manager@email.com"),
+                new CommentResponse(3L, "comment3", 2L, "manager@email.com")
+        ));
+
+        // when
+        TodoDetailResponse response = todoService.getTodoDetail(todoId);
+
+        // then
+        assertEquals(DETAIL_COMMENT_SIZE, response.getComments().getContents().size());
+        assertTrue(response.getComments().isHasNext());
+        assertEquals(2L, response.getComments().getNextCursor());
+    }
+
+    @Test
+    void 일정_상세_조회시_일정이_없으면_InvalidRequestException_발생() {
+        // given
+        given(todoRepository.findResponseById(anyLong())).willReturn(Optional.empty());
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.getTodoDetail(1L));
+
+        // then
+        assertEquals("Todo not found", exception.getMessage());
+        verifyNoInteractions(managerRepository, commentRepository);
+    }
+
+    @Test
+    void 커서로_일정_리스트를_가져오면_다음_커서를_반환한다() {
+        // given
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+        List<TodoResponse> todos = new ArrayList<>();
+        for (long id = 3; id >= 1; id--) {
+            todos.add(new TodoResponse(id, "title", "test", "weather", 1L, "email@email.com", 0, 1, modifiedAt, modifiedAt));
+        }
+
+        given(todoRepository.findFirstTodoResponses(any(Pageable.class))).willReturn(todos);
+
+        // when
+        TodoCursorResponse response = todoService.getTodosByCursor(null, 2);
+
+        // then
+        assertEquals(2, response.getContents().size());
+        assertTrue(response.isHasNext());
+        TodoCursor nextCursor = TodoCursor.decode(response.getNextCursor());
+        assertEquals(modifiedAt, nextCursor.getModifiedAt());
+        assertEquals(2L, nextCursor.getId());
+    }
+
+    @Test
+    void 커서_다음_페이지를_가져온다() {
+        // given
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+        TodoResponse todo = new TodoResponse(1L, "title", "test", "weather", 1L, "email@email.com", 0, 1, modifiedAt, modifiedAt);
+
+        String cursor = new TodoCursor(modifiedAt, 2L).encode();
+        given(todoRepository.findNextTodoResponses(eq(modifiedAt), eq(2L), any(Pageable.class))).willReturn(List.of(todo));
+
+        // when
+        TodoCursorResponse response = todoService.getTodosByCursor(cursor, 2);
+
+        // then
+        assertEquals(1, response.getContents().size());
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    void 잘못된_커서는_InvalidRequestException_발생() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.getTodosByCursor("not-a-cursor", 10));
+
+        // then
+        assertEquals("잘못된 커서입니다.", exception.getMessage());
+    }
+}
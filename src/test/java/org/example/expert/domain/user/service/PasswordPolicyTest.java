@@ -0,0 +1,24 @@
+package org.example.expert.domain.user.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordPolicyTest {
+
+    @Test
+    void 숫자와_대문자를_포함한_8자_이상_비밀번호는_유효하다() {
+        assertTrue(PasswordPolicy.isValid("Test1234"));
+        assertTrue(PasswordPolicy.isValid("1abcdefG"));
+    }
+
+    @Test
+    void 규칙을_만족하지_않는_비밀번호는_유효하지_않다() {
+        assertFalse(PasswordPolicy.isValid(null));
+        assertFalse(PasswordPolicy.isValid("Test123"));
+        assertFalse(PasswordPolicy.isValid("abcdefghij"));
+        assertFalse(PasswordPolicy.isValid("abcdefghij12345"));
+        assertFalse(PasswordPolicy.isValid("ABCDEFGHIJ"));
+    }
+}
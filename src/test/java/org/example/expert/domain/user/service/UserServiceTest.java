@@ -1,25 +1,32 @@
 package org.example.expert.domain.user.service;
 
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PasswordHashExecutor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 
@@ -29,12 +36,23 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @Spy
-    private PasswordEncoder passwordEncoder;
+    @Mock
+    private PasswordHashExecutor passwordHashExecutor;
 
     @InjectMocks
     private UserService userService;
 
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder();
+
+    @BeforeEach
+    void setUp() {
+        // 해싱 스레드 풀 대신 호출 스레드에서 실제 PasswordEncoder 로 처리합니다.
+        lenient().when(passwordHashExecutor.matches(anyString(), anyString())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(passwordEncoder.matches(invocation.getArgument(0), invocation.getArgument(1))));
+        lenient().when(passwordHashExecutor.encode(anyString())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(passwordEncoder.encode(invocation.getArgument(0))));
+    }
+
     @Test
     void 비밀번호_변경() {
         // given
@@ -48,15 +66,61 @@ class UserServiceTest {
         User user = new User("email@email.com", encodedOldPw, UserRole.USER);
         ReflectionTestUtils.setField(user, "id", 1L);
 
-        String encodedPassword = "testPw1234";
-
         given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
+        given(userRepository.updatePassword(eq(userId), eq(encodedOldPw), anyString())).willReturn(1);
 
         // when
         userService.changePassword(userId, request);
 
         // then
-        verify(passwordEncoder).encode(request.getNewPassword());
+        verify(passwordHashExecutor).encode(request.getNewPassword());
+        verify(userRepository).updatePassword(eq(userId), eq(encodedOldPw), anyString());
+    }
+
+    @Test
+    void 비밀번호_변경중_다른_요청이_먼저_바꿨으면_InvalidException_발생() {
+        // given
+        long userId = 1L;
+
+        UserChangePasswordRequest request = new UserChangePasswordRequest(
+                "1234", "Test12345"
+        );
+
+        String encodedOldPw = passwordEncoder.encode("1234");
+        User user = new User("email@email.com", encodedOldPw, UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
+        // 해싱하는 사이 저장된 해시가 바뀌어 조건부 UPDATE 가 0 건을 반환합니다.
+        given(userRepository.updatePassword(eq(userId), eq(encodedOldPw), anyString())).willReturn(0);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> userService.changePassword(userId, request));
+
+        // then
+        assertEquals("비밀번호가 다른 요청에서 변경되었습니다. 다시 시도해주세요.", exception.getMessage());
+    }
+
+    @Test
+    void 비밀번호_변경시_해싱이_거절되면_ServiceUnavailableException_그대로_발생() {
+        // given
+        long userId = 1L;
+
+        UserChangePasswordRequest request = new UserChangePasswordRequest(
+                "1234", "Test12345"
+        );
+
+        User user = new User("email@email.com", passwordEncoder.encode("1234"), UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
+        given(passwordHashExecutor.encode(anyString())).willReturn(
+                CompletableFuture.failedFuture(new ServiceUnavailableException("잠시 후 다시 시도해주세요.")));
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> userService.changePassword(userId, request));
+        verify(userRepository, never()).updatePassword(anyLong(), anyString(), anyString());
     }
 
     @Test